@@ -23,8 +23,6 @@
 
 package org.codice.usng4j;
 
-import java.text.NumberFormat;
-
 /**
  * This enum represents the valid precision ranges that can be specified in the Unites States Grid
  * System.
@@ -40,30 +38,114 @@ public enum CoordinatePrecision {
 
   private int precisionValue;
 
-  private NumberFormat numberFormat;
-
   private CoordinatePrecision(int precisionValue) {
     this.precisionValue = precisionValue;
+  }
 
-    if (precisionValue > 0) {
-      this.numberFormat = NumberFormat.getIntegerInstance();
-      this.numberFormat.setGroupingUsed(false);
-      this.numberFormat.setMinimumIntegerDigits(precisionValue);
+  /**
+   * @param value the easting or northing value to format.
+   * @return 'value' zero padded to this precision's number of digits, e.g. "00042" for 42 at
+   *     ONE_METER, or an empty String for precisions without digits.
+   */
+  public String format(int value) {
+    if (precisionValue <= 0) {
+      return "";
     }
+
+    return formatTo(new StringBuilder(precisionValue + 1), value).toString();
   }
 
-  public String format(int value) {
-    if (numberFormat != null) {
-      return numberFormat.format(value);
+  /**
+   * Appends 'value' as {@link #format(int)} would format it. This method is thread safe and creates
+   * no objects.
+   *
+   * @param stringBuilder the builder to append to.
+   * @param value the easting or northing value to format.
+   * @return 'stringBuilder'
+   */
+  public StringBuilder formatTo(StringBuilder stringBuilder, int value) {
+    if (precisionValue <= 0) {
+      return stringBuilder;
+    }
+
+    long magnitude = value;
+
+    if (magnitude < 0) {
+      stringBuilder.append('-');
+      magnitude = -magnitude;
+    }
+
+    for (int digits = digitCount(magnitude); digits < precisionValue; digits++) {
+      stringBuilder.append('0');
     }
 
-    return "";
+    return stringBuilder.append(magnitude);
+  }
+
+  /**
+   * Writes 'value' as {@link #format(int)} would format it. This method is thread safe and creates
+   * no objects.
+   *
+   * @param destination the array to write the characters into.
+   * @param offset the index in 'destination' of the first character.
+   * @param value the easting or northing value to format.
+   * @return the number of characters written.
+   */
+  public int formatTo(char[] destination, int offset, int value) {
+    if (precisionValue <= 0) {
+      return 0;
+    }
+
+    long magnitude = value;
+    int start = offset;
+
+    if (magnitude < 0) {
+      destination[start++] = '-';
+      magnitude = -magnitude;
+    }
+
+    final int end = start + Math.max(digitCount(magnitude), precisionValue);
+
+    for (int i = end - 1; i >= start; i--) {
+      destination[i] = (char) ('0' + magnitude % 10);
+      magnitude /= 10;
+    }
+
+    return end - offset;
+  }
+
+  private static int digitCount(long magnitude) {
+    int digits = 1;
+
+    while (magnitude >= 10) {
+      magnitude /= 10;
+      digits++;
+    }
+
+    return digits;
   }
 
   public int getIntValue() {
     return this.precisionValue;
   }
 
+  /**
+   * Returns the same precision as {@code forEastNorth(Double.toString(easting),
+   * Double.toString(northing))}, but only builds the strings when both values are below 100 in
+   * magnitude: any larger value prints as at least five characters, which is ONE_METER.
+   *
+   * @param easting the easting value.
+   * @param northing the northing value.
+   * @return the precision implied by the printed lengths of 'easting' and 'northing'.
+   */
+  public static CoordinatePrecision forEastNorth(double easting, double northing) {
+    if (Math.abs(easting) >= 100 || Math.abs(northing) >= 100) {
+      return CoordinatePrecision.ONE_METER;
+    }
+
+    return forEastNorth(Double.toString(easting), Double.toString(northing));
+  }
+
   public static CoordinatePrecision forEastNorth(String easting, String northing) {
     int maxLength = Math.max(easting.trim().length(), northing.trim().length());
 
@@ -23,12 +23,23 @@
 
 package org.codice.usng4j;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * A utility for converting between coordinate systems.
  *
  * <p>The default implementation of this class is immutable and therefore threadsafe.
+ *
+ * <p>Methods added after the first release have default implementations built on the original
+ * methods, so that existing implementations keep compiling and running. They give the same results
+ * as the overrides in the default implementation, without their speed, except that failed {@code
+ * tryParse} calls report any ParseException as UNEXPECTED_CHARACTER, and that {@link #toUsngCells}
+ * and the children of a grid zone are not supported.
  */
 public interface CoordinateSystemTranslator {
   /**
@@ -37,6 +48,127 @@ public interface CoordinateSystemTranslator {
    */
   UsngCoordinate toUsng(BoundingBox latLonCoordinate);
 
+  /**
+   * Lazily enumerates every USNG cell that intersects a bounding box, across UTM zone boundaries,
+   * the Norway and Svalbard zone exceptions and latitude band edges. Cells are produced as the
+   * stream is consumed, so large covers are never held in memory. The cover is conservative: cells
+   * within a centimeter of the box may be included.
+   *
+   * @param boundingBox the box to cover. A box whose west is greater than its east crosses the
+   *     antimeridian. Latitudes outside of the USNG range of 80S to 84N are ignored.
+   * @param coordinatePrecision the precision of the cells.
+   * @return the distinct cells, in order of latitude band, zone, then south to north and west to
+   *     east.
+   * @throws IllegalArgumentException if the box's south is north of its north.
+   * @throws UnsupportedOperationException if the implementation can't enumerate cells, which is
+   *     what the default implementation does.
+   */
+  default Stream<UsngCoordinate> toUsngCells(
+      BoundingBox boundingBox, CoordinatePrecision coordinatePrecision) {
+    throw new UnsupportedOperationException("toUsngCells is not supported by " + getClass());
+  }
+
+  /**
+   * Derives the cell at a coarser precision that contains a USNG coordinate, from its grid fields
+   * alone and without converting it to lat/lon. The result is the same as converting the
+   * coordinate's position at 'coordinatePrecision'.
+   *
+   * @param usngCoordinate the coordinate whose parent cell is wanted.
+   * @param coordinatePrecision the precision of the parent cell, no finer than usngCoordinate's.
+   * @return the parent cell; usngCoordinate's equal at its own precision.
+   * @throws IllegalArgumentException if coordinatePrecision is finer than usngCoordinate's.
+   */
+  default UsngCoordinate toUsngParent(
+      UsngCoordinate usngCoordinate, CoordinatePrecision coordinatePrecision) {
+    final CoordinatePrecision precision = usngCoordinate.getPrecision();
+    if (coordinatePrecision.compareTo(precision) > 0) {
+      throw new IllegalArgumentException(
+          String.format("%s is finer than %s", coordinatePrecision, precision));
+    }
+
+    final StringBuilder mgrs =
+        new StringBuilder()
+            .append(usngCoordinate.getZoneNumber())
+            .append(usngCoordinate.getLatitudeBandLetter());
+
+    if (coordinatePrecision != CoordinatePrecision.SIX_BY_EIGHT_DEGREES) {
+      mgrs.append(usngCoordinate.getColumnLetter()).append(usngCoordinate.getRowLetter());
+    }
+
+    if (coordinatePrecision.getIntValue() > 0) {
+      final int divisor =
+          (int) Math.pow(10, precision.getIntValue() - coordinatePrecision.getIntValue());
+      coordinatePrecision.formatTo(mgrs, usngCoordinate.getEasting() / divisor);
+      coordinatePrecision.formatTo(mgrs, usngCoordinate.getNorthing() / divisor);
+    }
+
+    try {
+      return parseMgrsString(mgrs.toString());
+    } catch (ParseException e) {
+      throw new IllegalArgumentException("Not a valid USNG coordinate: " + usngCoordinate, e);
+    }
+  }
+
+  /**
+   * Lazily enumerates the cells at a finer precision within a USNG coordinate's cell, south to
+   * north and west to east. Below the 100 km squares this works on the grid fields alone, and every
+   * cell of a square is produced even where the square is cut by the edge of its grid zone. The 100
+   * km squares of a grid zone are those that intersect it.
+   *
+   * @param usngCoordinate the coordinate whose child cells are wanted.
+   * @param coordinatePrecision the precision of the child cells, no coarser than usngCoordinate's.
+   * @return the child cells; only usngCoordinate's equal at its own precision.
+   * @throws IllegalArgumentException if coordinatePrecision is coarser than usngCoordinate's, or
+   *     usngCoordinate's grid zone does not exist.
+   * @throws UnsupportedOperationException if the implementation can't enumerate the 100 km squares
+   *     of a grid zone. The default implementation only enumerates the cells of 100 km squares and
+   *     finer cells.
+   */
+  default Stream<UsngCoordinate> toUsngChildren(
+      UsngCoordinate usngCoordinate, CoordinatePrecision coordinatePrecision) {
+    final CoordinatePrecision precision = usngCoordinate.getPrecision();
+    if (coordinatePrecision.compareTo(precision) < 0) {
+      throw new IllegalArgumentException(
+          String.format("%s is coarser than %s", coordinatePrecision, precision));
+    }
+
+    if (coordinatePrecision == precision) {
+      return Stream.of(usngCoordinate);
+    }
+
+    if (precision == CoordinatePrecision.SIX_BY_EIGHT_DEGREES) {
+      throw new UnsupportedOperationException(
+          "toUsngChildren of a grid zone is not supported by " + getClass());
+    }
+
+    final String square =
+        new StringBuilder()
+            .append(usngCoordinate.getZoneNumber())
+            .append(usngCoordinate.getLatitudeBandLetter())
+            .append(usngCoordinate.getColumnLetter())
+            .append(usngCoordinate.getRowLetter())
+            .toString();
+    final long scale =
+        (long) Math.pow(10, coordinatePrecision.getIntValue() - precision.getIntValue());
+    final long easting = precision.getIntValue() > 0 ? usngCoordinate.getEasting() * scale : 0;
+    final long northing = precision.getIntValue() > 0 ? usngCoordinate.getNorthing() * scale : 0;
+
+    // south to north, then west to east within each row
+    return LongStream.range(0, scale * scale)
+        .mapToObj(
+            i -> {
+              final StringBuilder mgrs = new StringBuilder(square);
+              coordinatePrecision.formatTo(mgrs, (int) (easting + i % scale));
+              coordinatePrecision.formatTo(mgrs, (int) (northing + i / scale));
+              try {
+                return parseMgrsString(mgrs.toString());
+              } catch (ParseException e) {
+                throw new IllegalArgumentException(
+                    "Not a valid USNG coordinate: " + usngCoordinate, e);
+              }
+            });
+  }
+
   /**
    * Converts from decimal degrees to UTM. Throws an {@code IllegalArgumentException} if the
    * resulting coordinate is not valid UTM.
@@ -46,6 +178,62 @@ public interface CoordinateSystemTranslator {
    */
   UtmCoordinate toUtm(DecimalDegreesCoordinate decimalDegreesCoordinate);
 
+  /**
+   * Converts an array of decimal degrees coordinates to UTM without creating a coordinate object
+   * per point. The results for {@code lats[i]} and {@code lons[i]} are written to index {@code i}
+   * of the output arrays, which must be at least as long as {@code lats}. As with {@link
+   * #toUtm(DecimalDegreesCoordinate)}, southern hemisphere northings are negative. Throws an {@code
+   * IllegalArgumentException} if the arrays are too short or if a coordinate is not valid UTM;
+   * results for the points before the invalid one have already been written.
+   *
+   * @param lats the latitudes to be converted.
+   * @param lons the longitudes to be converted, same length as {@code lats}.
+   * @param zoneNumbers receives the UTM zone number of each point.
+   * @param eastings receives the easting of each point.
+   * @param northings receives the northing of each point.
+   */
+  default void toUtm(
+      double[] lats, double[] lons, int[] zoneNumbers, double[] eastings, double[] northings) {
+    toUtm(lats, lons, zoneNumbers, eastings, northings, 0, lats.length);
+  }
+
+  /**
+   * Converts the points {@code offset} to {@code offset + length - 1} of the supplied arrays to
+   * UTM. See {@link #toUtm(double[], double[], int[], double[], double[])}.
+   *
+   * @param lats the latitudes to be converted.
+   * @param lons the longitudes to be converted.
+   * @param zoneNumbers receives the UTM zone number of each point.
+   * @param eastings receives the easting of each point.
+   * @param northings receives the northing of each point.
+   * @param offset the index of the first point to convert.
+   * @param length the number of points to convert.
+   */
+  default void toUtm(
+      double[] lats,
+      double[] lons,
+      int[] zoneNumbers,
+      double[] eastings,
+      double[] northings,
+      int offset,
+      int length) {
+    TranslatorDefaults.checkRange(
+        offset,
+        length,
+        lats.length,
+        lons.length,
+        zoneNumbers.length,
+        eastings.length,
+        northings.length);
+
+    for (int i = offset; i < offset + length; i++) {
+      final UtmCoordinate utmCoordinate = toUtm(new TranslatorDefaults.LatLon(lats[i], lons[i]));
+      zoneNumbers[i] = utmCoordinate.getZoneNumber();
+      eastings[i] = utmCoordinate.getEasting();
+      northings[i] = utmCoordinate.getNorthing();
+    }
+  }
+
   /**
    * Converts from decimal degrees to UPS. Throws an {@code IllegalArgumentException} if the
    * resulting coordinate is not valid UPS.
@@ -73,7 +261,8 @@ public interface CoordinateSystemTranslator {
   UsngCoordinate toUsng(DecimalDegreesCoordinate decimalDegreesCoordinate);
 
   /**
-   * Converts from decimal degrees to USNG.
+   * Converts from decimal degrees to USNG. At SIX_BY_EIGHT_DEGREES and ONE_HUNDRED_KILOMETERS
+   * precision, implementations may return the same shared instance for equal cells.
    *
    * @param decimalDegreesCoordinate the lat/lon coordinate to be converted.
    * @param coordinatePrecision the requested precision of the returned UsngCoordinate.
@@ -82,6 +271,161 @@ public interface CoordinateSystemTranslator {
   UsngCoordinate toUsng(
       DecimalDegreesCoordinate decimalDegreesCoordinate, CoordinatePrecision coordinatePrecision);
 
+  /**
+   * Converts from decimal degrees to USNG at every precision, projecting the coordinate only once.
+   * This is cheaper than calling {@link #toUsng(DecimalDegreesCoordinate, CoordinatePrecision)} for
+   * each precision, and gives the same results.
+   *
+   * @param decimalDegreesCoordinate the lat/lon coordinate to be converted.
+   * @return the USNG equivalents of decimalDegreesCoordinate, indexed by {@link
+   *     CoordinatePrecision#ordinal()} from SIX_BY_EIGHT_DEGREES to ONE_METER.
+   */
+  default UsngCoordinate[] toUsngAtEveryPrecision(
+      DecimalDegreesCoordinate decimalDegreesCoordinate) {
+    final CoordinatePrecision[] precisions = CoordinatePrecision.values();
+    final UsngCoordinate[] usngCoordinates = new UsngCoordinate[precisions.length];
+
+    for (CoordinatePrecision precision : precisions) {
+      usngCoordinates[precision.ordinal()] = toUsng(decimalDegreesCoordinate, precision);
+    }
+
+    return usngCoordinates;
+  }
+
+  /**
+   * Writes the MGRS string of a lat/lon coordinate into a character array without creating any
+   * objects. The result is the same as {@code toUsng(coordinate, coordinatePrecision)
+   * .toMgrsString()}; at most 15 characters are written.
+   *
+   * @param lat the latitude of the coordinate to be converted.
+   * @param lon the longitude of the coordinate to be converted.
+   * @param coordinatePrecision the requested precision of the MGRS string.
+   * @param destination the array to write the string into.
+   * @param offset the index in 'destination' of the first character.
+   * @return the number of characters written.
+   * @throws IllegalArgumentException if the coordinate is not valid UTM, or if the string does not
+   *     fit in 'destination' at 'offset'; the message gives the array length needed, and nothing is
+   *     written.
+   */
+  default int writeMgrsString(
+      double lat,
+      double lon,
+      CoordinatePrecision coordinatePrecision,
+      char[] destination,
+      int offset) {
+    final String string =
+        toUsng(new TranslatorDefaults.LatLon(lat, lon), coordinatePrecision).toMgrsString();
+    TranslatorDefaults.checkCapacity(string.length(), destination, offset);
+    string.getChars(0, string.length(), destination, offset);
+    return string.length();
+  }
+
+  /**
+   * Writes the MGRS string of a lat/lon coordinate as ASCII bytes at the position of a buffer and
+   * advances the position. See {@link #writeMgrsString(double, double, CoordinatePrecision, char[],
+   * int)}. Throws a {@code BufferOverflowException}, without writing anything, if the string does
+   * not fit in the remaining bytes.
+   *
+   * @param lat the latitude of the coordinate to be converted.
+   * @param lon the longitude of the coordinate to be converted.
+   * @param coordinatePrecision the requested precision of the MGRS string.
+   * @param destination the buffer to write the string into.
+   * @return the number of bytes written.
+   */
+  default int writeMgrsString(
+      double lat, double lon, CoordinatePrecision coordinatePrecision, ByteBuffer destination) {
+    final byte[] bytes =
+        toUsng(new TranslatorDefaults.LatLon(lat, lon), coordinatePrecision)
+            .toMgrsString()
+            .getBytes(StandardCharsets.US_ASCII);
+    destination.put(bytes);
+    return bytes.length;
+  }
+
+  /**
+   * Appends the MGRS string of a lat/lon coordinate to 'destination', e.g. a {@code StringBuilder}.
+   * See {@link #writeMgrsString(double, double, CoordinatePrecision, char[], int)}.
+   *
+   * @param lat the latitude of the coordinate to be converted.
+   * @param lon the longitude of the coordinate to be converted.
+   * @param coordinatePrecision the requested precision of the MGRS string.
+   * @param destination where to append the string.
+   * @throws IOException if 'destination' throws one.
+   */
+  default void appendMgrsString(
+      double lat, double lon, CoordinatePrecision coordinatePrecision, Appendable destination)
+      throws IOException {
+    destination.append(
+        toUsng(new TranslatorDefaults.LatLon(lat, lon), coordinatePrecision).toMgrsString());
+  }
+
+  /**
+   * Writes the USNG string of a lat/lon coordinate into a character array without creating any
+   * objects. The result is the same as {@code toUsng(coordinate, coordinatePrecision).toString()};
+   * at most 18 characters are written.
+   *
+   * @param lat the latitude of the coordinate to be converted.
+   * @param lon the longitude of the coordinate to be converted.
+   * @param coordinatePrecision the requested precision of the USNG string.
+   * @param destination the array to write the string into.
+   * @param offset the index in 'destination' of the first character.
+   * @return the number of characters written.
+   * @throws IllegalArgumentException if the coordinate is not valid UTM, or if the string does not
+   *     fit in 'destination' at 'offset'; the message gives the array length needed, and nothing is
+   *     written.
+   */
+  default int writeUsngString(
+      double lat,
+      double lon,
+      CoordinatePrecision coordinatePrecision,
+      char[] destination,
+      int offset) {
+    final String string =
+        toUsng(new TranslatorDefaults.LatLon(lat, lon), coordinatePrecision).toString();
+    TranslatorDefaults.checkCapacity(string.length(), destination, offset);
+    string.getChars(0, string.length(), destination, offset);
+    return string.length();
+  }
+
+  /**
+   * Writes the USNG string of a lat/lon coordinate as ASCII bytes at the position of a buffer and
+   * advances the position. See {@link #writeUsngString(double, double, CoordinatePrecision, char[],
+   * int)}. Throws a {@code BufferOverflowException}, without writing anything, if the string does
+   * not fit in the remaining bytes.
+   *
+   * @param lat the latitude of the coordinate to be converted.
+   * @param lon the longitude of the coordinate to be converted.
+   * @param coordinatePrecision the requested precision of the USNG string.
+   * @param destination the buffer to write the string into.
+   * @return the number of bytes written.
+   */
+  default int writeUsngString(
+      double lat, double lon, CoordinatePrecision coordinatePrecision, ByteBuffer destination) {
+    final byte[] bytes =
+        toUsng(new TranslatorDefaults.LatLon(lat, lon), coordinatePrecision)
+            .toString()
+            .getBytes(StandardCharsets.US_ASCII);
+    destination.put(bytes);
+    return bytes.length;
+  }
+
+  /**
+   * Appends the USNG string of a lat/lon coordinate to 'destination', e.g. a {@code StringBuilder}.
+   * See {@link #writeUsngString(double, double, CoordinatePrecision, char[], int)}.
+   *
+   * @param lat the latitude of the coordinate to be converted.
+   * @param lon the longitude of the coordinate to be converted.
+   * @param coordinatePrecision the requested precision of the USNG string.
+   * @param destination where to append the string.
+   * @throws IOException if 'destination' throws one.
+   */
+  default void appendUsngString(
+      double lat, double lon, CoordinatePrecision coordinatePrecision, Appendable destination)
+      throws IOException {
+    destination.append(
+        toUsng(new TranslatorDefaults.LatLon(lat, lon), coordinatePrecision).toString());
+  }
+
   /**
    * Converts from UTM to a bounding box.
    *
@@ -98,6 +442,74 @@ public interface CoordinateSystemTranslator {
    */
   DecimalDegreesCoordinate toLatLon(UtmCoordinate utmCoordinate);
 
+  /**
+   * Converts an array of UTM positions to decimal degrees without creating a coordinate object per
+   * point. The position at index {@code i} of the input arrays is written to index {@code i} of
+   * {@code lats} and {@code lons}; all arrays must be at least as long as {@code zoneNumbers}. A
+   * {@link NSIndicator#SOUTH} indicator means the northing is measured from the false northing of
+   * the southern hemisphere; {@link NSIndicator#NORTH} or {@code null} means it is not offset.
+   * Results are identical to those of {@link #toLatLon(UtmCoordinate)}.
+   *
+   * @param zoneNumbers the UTM zone number of each point.
+   * @param nsIndicators the hemisphere of each point.
+   * @param eastings the easting of each point.
+   * @param northings the northing of each point.
+   * @param lats receives the latitude of each point.
+   * @param lons receives the longitude of each point.
+   */
+  default void toLatLon(
+      int[] zoneNumbers,
+      NSIndicator[] nsIndicators,
+      double[] eastings,
+      double[] northings,
+      double[] lats,
+      double[] lons) {
+    toLatLon(zoneNumbers, nsIndicators, eastings, northings, lats, lons, 0, zoneNumbers.length);
+  }
+
+  /**
+   * Converts the points {@code offset} to {@code offset + length - 1} of the supplied arrays to
+   * decimal degrees. See {@link #toLatLon(int[], NSIndicator[], double[], double[], double[],
+   * double[])}.
+   *
+   * @param zoneNumbers the UTM zone number of each point.
+   * @param nsIndicators the hemisphere of each point.
+   * @param eastings the easting of each point.
+   * @param northings the northing of each point.
+   * @param lats receives the latitude of each point.
+   * @param lons receives the longitude of each point.
+   * @param offset the index of the first point to convert.
+   * @param length the number of points to convert.
+   */
+  default void toLatLon(
+      int[] zoneNumbers,
+      NSIndicator[] nsIndicators,
+      double[] eastings,
+      double[] northings,
+      double[] lats,
+      double[] lons,
+      int offset,
+      int length) {
+    TranslatorDefaults.checkRange(
+        offset,
+        length,
+        zoneNumbers.length,
+        nsIndicators.length,
+        eastings.length,
+        northings.length,
+        lats.length,
+        lons.length);
+
+    for (int i = offset; i < offset + length; i++) {
+      final DecimalDegreesCoordinate latLon =
+          toLatLon(
+              new TranslatorDefaults.Utm(
+                  zoneNumbers[i], nsIndicators[i], eastings[i], northings[i]));
+      lats[i] = latLon.getLat();
+      lons[i] = latLon.getLon();
+    }
+  }
+
   /**
    * Convert a UPS coordinate to latitude and longitude coordinates.
    *
@@ -167,4 +579,132 @@ public interface CoordinateSystemTranslator {
    * @throws ParseException when 'msgrsString' isn't in MGRS format.
    */
   UsngCoordinate parseMgrsString(String mgrsString) throws ParseException;
+
+  /**
+   * Parses a UTM/UPS string like {@link #parseUtmUpsString(String)} but reports failures in the
+   * returned result instead of throwing, which makes validating large amounts of untrusted input
+   * cheap. A well formed string that is neither a UTM nor a UPS coordinate fails with {@link
+   * ParseErrorCode#INVALID_COORDINATE}.
+   *
+   * @param utmUpsString a UTM/UPS string. e.g. {@code A 123456 123456}
+   * @return the parsed coordinate, or the reason and offset at which parsing failed.
+   */
+  default ParseResult<UtmUpsCoordinate> tryParseUtmUpsString(String utmUpsString) {
+    try {
+      return TranslatorDefaults.success(parseUtmUpsString(utmUpsString));
+    } catch (ParseException e) {
+      return TranslatorDefaults.failure(ParseErrorCode.UNEXPECTED_CHARACTER, e.getErrorOffset());
+    } catch (IllegalArgumentException e) {
+      return TranslatorDefaults.failure(ParseErrorCode.INVALID_COORDINATE, 0);
+    }
+  }
+
+  /**
+   * Parses a USNG string like {@link #parseUsngString(String)} but reports failures in the returned
+   * result instead of throwing.
+   *
+   * @param usngString a USNG string.
+   * @return the parsed coordinate, or the reason and offset at which parsing failed.
+   */
+  default ParseResult<UsngCoordinate> tryParseUsngString(String usngString) {
+    try {
+      return TranslatorDefaults.success(parseUsngString(usngString));
+    } catch (ParseException e) {
+      return TranslatorDefaults.failure(ParseErrorCode.UNEXPECTED_CHARACTER, e.getErrorOffset());
+    }
+  }
+
+  /**
+   * Parses an MGRS string like {@link #parseMgrsString(String)} but reports failures in the
+   * returned result instead of throwing.
+   *
+   * @param mgrsString an MGRS string.
+   * @return the parsed coordinate, or the reason and offset at which parsing failed.
+   */
+  default ParseResult<UsngCoordinate> tryParseMgrsString(String mgrsString) {
+    try {
+      return TranslatorDefaults.success(parseMgrsString(mgrsString));
+    } catch (ParseException e) {
+      return TranslatorDefaults.failure(ParseErrorCode.UNEXPECTED_CHARACTER, e.getErrorOffset());
+    }
+  }
+
+  /**
+   * Parses ASCII encoded UTM/UPS text like {@link #tryParseUtmUpsString(String)}, reading the bytes
+   * directly rather than decoding them into a String first. The buffer's position and limit are not
+   * changed.
+   *
+   * @param utmUpsText the buffer whose remaining bytes hold the UTM/UPS text.
+   * @return the parsed coordinate, or the reason and offset from the buffer's position at which
+   *     parsing failed.
+   */
+  default ParseResult<UtmUpsCoordinate> tryParseUtmUpsString(ByteBuffer utmUpsText) {
+    return tryParseUtmUpsString(TranslatorDefaults.text(utmUpsText));
+  }
+
+  /**
+   * Parses ASCII encoded UTM/UPS text like {@link #tryParseUtmUpsString(String)}, reading the bytes
+   * directly rather than decoding them into a String first.
+   *
+   * @param utmUpsText the array holding the UTM/UPS text.
+   * @param offset the index in 'utmUpsText' of the first byte of the text.
+   * @param length the number of bytes of text.
+   * @return the parsed coordinate, or the reason and offset from 'offset' at which parsing failed.
+   */
+  default ParseResult<UtmUpsCoordinate> tryParseUtmUpsString(
+      byte[] utmUpsText, int offset, int length) {
+    return tryParseUtmUpsString(TranslatorDefaults.text(utmUpsText, offset, length));
+  }
+
+  /**
+   * Parses ASCII encoded USNG text like {@link #tryParseUsngString(String)}, reading the bytes
+   * directly rather than decoding them into a String first. The buffer's position and limit are not
+   * changed.
+   *
+   * @param usngText the buffer whose remaining bytes hold the USNG text.
+   * @return the parsed coordinate, or the reason and offset from the buffer's position at which
+   *     parsing failed.
+   */
+  default ParseResult<UsngCoordinate> tryParseUsngString(ByteBuffer usngText) {
+    return tryParseUsngString(TranslatorDefaults.text(usngText));
+  }
+
+  /**
+   * Parses ASCII encoded USNG text like {@link #tryParseUsngString(String)}, reading the bytes
+   * directly rather than decoding them into a String first.
+   *
+   * @param usngText the array holding the USNG text.
+   * @param offset the index in 'usngText' of the first byte of the text.
+   * @param length the number of bytes of text.
+   * @return the parsed coordinate, or the reason and offset from 'offset' at which parsing failed.
+   */
+  default ParseResult<UsngCoordinate> tryParseUsngString(byte[] usngText, int offset, int length) {
+    return tryParseUsngString(TranslatorDefaults.text(usngText, offset, length));
+  }
+
+  /**
+   * Parses ASCII encoded MGRS text like {@link #tryParseMgrsString(String)}, reading the bytes
+   * directly rather than decoding them into a String first. The buffer's position and limit are not
+   * changed.
+   *
+   * @param mgrsText the buffer whose remaining bytes hold the MGRS text.
+   * @return the parsed coordinate, or the reason and offset from the buffer's position at which
+   *     parsing failed.
+   */
+  default ParseResult<UsngCoordinate> tryParseMgrsString(ByteBuffer mgrsText) {
+    return tryParseMgrsString(TranslatorDefaults.text(mgrsText));
+  }
+
+  /**
+   * Parses ASCII encoded MGRS text like {@link #tryParseMgrsString(String)}, reading the bytes
+   * directly rather than decoding them into a String first.
+   *
+   * @param mgrsText the array holding the MGRS text.
+   * @param offset the index in 'mgrsText' of the first byte of the text.
+   * @param length the number of bytes of text.
+   * @return the parsed coordinate, or the reason and offset from 'offset' at which parsing failed.
+   */
+  default ParseResult<UsngCoordinate> tryParseMgrsString(byte[] mgrsText, int offset, int length) {
+    return tryParseMgrsString(TranslatorDefaults.text(mgrsText, offset, length));
+  }
 }
@@ -0,0 +1,42 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j;
+
+/** Machine readable reasons for a coordinate string failing to parse. */
+public enum ParseErrorCode {
+  /** The string ended before a complete coordinate was read. */
+  UNEXPECTED_END_OF_INPUT,
+  /** A character that is not allowed at the error offset was found. */
+  UNEXPECTED_CHARACTER,
+  /** The zone number is missing, zero padded or greater than 60. */
+  INVALID_ZONE_NUMBER,
+  /** The latitude band letter is not a valid band. */
+  INVALID_LATITUDE_BAND,
+  /** The 100 km grid square letters are not a valid column and row pair. */
+  INVALID_GRID_SQUARE,
+  /** The easting and northing digits are not an even number of at most 10 digits. */
+  INVALID_NUMERICAL_LOCATION,
+  /** A number is too large to be represented. */
+  NUMBER_OUT_OF_RANGE,
+  /** The string is well formed but does not describe a valid UTM or UPS coordinate. */
+  INVALID_COORDINATE
+}
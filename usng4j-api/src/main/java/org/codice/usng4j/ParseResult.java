@@ -0,0 +1,43 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j;
+
+/**
+ * The outcome of parsing a coordinate string without throwing an exception. A successful result
+ * holds the parsed value; an unsuccessful one holds the reason and the offset of the character at
+ * which parsing failed.
+ *
+ * @param <T> the type of the parsed coordinate.
+ */
+public interface ParseResult<T> {
+  /** @return true if the string was parsed successfully. */
+  boolean isSuccess();
+
+  /** @return the parsed coordinate, or null if parsing failed. */
+  T getValue();
+
+  /** @return the reason parsing failed, or null if parsing succeeded. */
+  ParseErrorCode getErrorCode();
+
+  /** @return the offset into the string at which parsing failed, or -1 if parsing succeeded. */
+  int getErrorOffset();
+}
@@ -0,0 +1,217 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Support for the default methods of {@link CoordinateSystemTranslator}, which let implementations
+ * written against earlier versions of the interface keep compiling and running. The defaults are
+ * built on the methods every implementation has, and are slower than the overrides of {@code
+ * CoordinateSystemTranslatorImpl}.
+ */
+final class TranslatorDefaults {
+
+  private static final double NORTHING_OFFSET = 10_000_000;
+
+  private TranslatorDefaults() {}
+
+  /**
+   * @throws IllegalArgumentException if 'offset' or 'length' is negative, or the range they give
+   *     does not fit in an array of one of 'arrayLengths'.
+   */
+  static void checkRange(final int offset, final int length, final int... arrayLengths) {
+    if (offset < 0 || length < 0) {
+      throw new IllegalArgumentException(
+          String.format("Invalid batch range - offset: %d, length: %d", offset, length));
+    }
+
+    for (int arrayLength : arrayLengths) {
+      if (offset > arrayLength - length) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Batch range of %d points from %d does not fit an array of length %d",
+                length, offset, arrayLength));
+      }
+    }
+  }
+
+  /**
+   * @throws IllegalArgumentException if 'length' characters do not fit in 'destination' at
+   *     'offset'.
+   */
+  static void checkCapacity(final int length, final char[] destination, final int offset) {
+    if (offset < 0 || offset > destination.length - length) {
+      throw new IllegalArgumentException(
+          String.format(
+              "%d characters at offset %d need an array of length %d, got %d",
+              length, offset, (long) offset + length, destination.length));
+    }
+  }
+
+  /** @return the ASCII text of the remaining bytes of 'text', leaving its position unchanged. */
+  static String text(final ByteBuffer text) {
+    final byte[] bytes = new byte[text.remaining()];
+    text.duplicate().get(bytes);
+    return new String(bytes, StandardCharsets.ISO_8859_1);
+  }
+
+  /** @return the ASCII text of 'length' bytes of 'text' from 'offset'. */
+  static String text(final byte[] text, final int offset, final int length) {
+    return new String(text, offset, length, StandardCharsets.ISO_8859_1);
+  }
+
+  static <T> ParseResult<T> success(final T value) {
+    return new Result<>(value, null, -1);
+  }
+
+  static <T> ParseResult<T> failure(final ParseErrorCode errorCode, final int errorOffset) {
+    return new Result<>(null, errorCode, errorOffset);
+  }
+
+  /** A lat/lon to pass to the single point conversions. */
+  static final class LatLon implements DecimalDegreesCoordinate {
+    private final double lat;
+
+    private final double lon;
+
+    LatLon(final double lat, final double lon) {
+      this.lat = lat;
+      this.lon = lon;
+    }
+
+    @Override
+    public double getLat() {
+      return lat;
+    }
+
+    @Override
+    public double getLon() {
+      return lon;
+    }
+  }
+
+  /** A UTM position to pass to the single point conversions; a null indicator means NORTH. */
+  static final class Utm implements UtmCoordinate {
+    private final int zoneNumber;
+
+    private final NSIndicator nsIndicator;
+
+    private final double easting;
+
+    private final double northing;
+
+    Utm(
+        final int zoneNumber,
+        final NSIndicator nsIndicator,
+        final double easting,
+        final double northing) {
+      this.zoneNumber = zoneNumber;
+      this.nsIndicator = nsIndicator == null ? NSIndicator.NORTH : nsIndicator;
+      this.easting = easting;
+      this.northing = northing;
+    }
+
+    @Override
+    public double getEasting() {
+      return easting;
+    }
+
+    @Override
+    public double getNorthing() {
+      return northing;
+    }
+
+    @Override
+    public double getNorthingWithOffset() {
+      return nsIndicator == NSIndicator.NORTH ? northing : northing - NORTHING_OFFSET;
+    }
+
+    @Override
+    public int getZoneNumber() {
+      return zoneNumber;
+    }
+
+    @Override
+    @Deprecated
+    public Character getLattitudeBand() {
+      return null;
+    }
+
+    @Override
+    public Character getLatitudeBand() {
+      return null;
+    }
+
+    @Override
+    public NSIndicator getNSIndicator() {
+      return nsIndicator;
+    }
+
+    @Override
+    public CoordinatePrecision getPrecision() {
+      return CoordinatePrecision.forEastNorth(easting, northing);
+    }
+  }
+
+  private static final class Result<T> implements ParseResult<T> {
+    private final T value;
+
+    private final ParseErrorCode errorCode;
+
+    private final int errorOffset;
+
+    Result(final T value, final ParseErrorCode errorCode, final int errorOffset) {
+      this.value = value;
+      this.errorCode = errorCode;
+      this.errorOffset = errorOffset;
+    }
+
+    @Override
+    public boolean isSuccess() {
+      return errorCode == null;
+    }
+
+    @Override
+    public T getValue() {
+      return value;
+    }
+
+    @Override
+    public ParseErrorCode getErrorCode() {
+      return errorCode;
+    }
+
+    @Override
+    public int getErrorOffset() {
+      return errorOffset;
+    }
+
+    @Override
+    public String toString() {
+      return isSuccess()
+          ? String.valueOf(value)
+          : String.format("%s at offset %d", errorCode, errorOffset);
+    }
+  }
+}
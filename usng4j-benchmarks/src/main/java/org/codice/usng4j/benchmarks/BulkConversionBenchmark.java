@@ -0,0 +1,111 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.impl.BulkCoordinateTranslator;
+import org.codice.usng4j.impl.CoordinateSystemTranslatorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures the fork/join bulk conversions for a range of pool and chunk sizes. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkConversionBenchmark {
+  private static final int POINTS = Region.DATASET_SIZE * 64;
+
+  @Param({"1", "4", "0"})
+  public int parallelism;
+
+  @Param({"1024", "16384"})
+  public int chunkSize;
+
+  private ForkJoinPool pool;
+
+  private BulkCoordinateTranslator bulkTranslator;
+
+  private final double[] lats = new double[POINTS];
+
+  private final double[] lons = new double[POINTS];
+
+  private final int[] zoneNumbers = new int[POINTS];
+
+  private final double[] eastings = new double[POINTS];
+
+  private final double[] northings = new double[POINTS];
+
+  private final String[] mgrsStrings = new String[POINTS];
+
+  @Setup
+  public void setUp() {
+    // 0 means one thread per available processor
+    pool =
+        new ForkJoinPool(
+            parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism);
+    bulkTranslator =
+        new BulkCoordinateTranslator(new CoordinateSystemTranslatorImpl(), pool, chunkSize);
+
+    final DecimalDegreesCoordinate[] points = Region.EQUATORIAL.points();
+
+    for (int i = 0; i < POINTS; i++) {
+      lats[i] = points[i % points.length].getLat();
+      lons[i] = points[i % points.length].getLon();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(POINTS)
+  public double[] toUtm() {
+    bulkTranslator.toUtm(lats, lons, zoneNumbers, eastings, northings);
+    return eastings;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(POINTS)
+  public String[] toMgrsStrings() {
+    bulkTranslator.toMgrsStrings(lats, lons, CoordinatePrecision.ONE_METER, mgrsStrings);
+    return mgrsStrings;
+  }
+}
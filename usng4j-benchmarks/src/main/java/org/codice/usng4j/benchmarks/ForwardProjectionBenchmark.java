@@ -0,0 +1,126 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.codice.usng4j.BoundingBox;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.UsngCoordinate;
+import org.codice.usng4j.UtmCoordinate;
+import org.codice.usng4j.impl.CoordinateSystemTranslatorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures the lat/lon to UTM and lat/lon to USNG conversions. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForwardProjectionBenchmark {
+
+  @Param({"EQUATORIAL", "NORWAY_SVALBARD", "SOUTHERN_HEMISPHERE"})
+  public Region region;
+
+  private final CoordinateSystemTranslator translator = new CoordinateSystemTranslatorImpl();
+
+  private DecimalDegreesCoordinate[] points;
+
+  private BoundingBox[] boundingBoxes;
+
+  private double[] lats;
+
+  private double[] lons;
+
+  private final int[] zoneNumbers = new int[Region.DATASET_SIZE];
+
+  private final double[] eastings = new double[Region.DATASET_SIZE];
+
+  private final double[] northings = new double[Region.DATASET_SIZE];
+
+  private final char[] mgrsChars = new char[32];
+
+  private int index;
+
+  @Setup
+  public void setUp() {
+    points = region.points();
+    boundingBoxes = region.boundingBoxes();
+    lats = new double[points.length];
+    lons = new double[points.length];
+    for (int i = 0; i < points.length; i++) {
+      lats[i] = points[i].getLat();
+      lons[i] = points[i].getLon();
+    }
+  }
+
+  @Benchmark
+  public UtmCoordinate toUtm() {
+    return translator.toUtm(points[next()]);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Region.DATASET_SIZE)
+  public double[] toUtmBatch() {
+    translator.toUtm(lats, lons, zoneNumbers, eastings, northings);
+    return eastings;
+  }
+
+  @Benchmark
+  public UsngCoordinate toUsng() {
+    return translator.toUsng(points[next()]);
+  }
+
+  @Benchmark
+  public String toMgrsString() {
+    return translator.toUsng(points[next()]).toMgrsString();
+  }
+
+  @Benchmark
+  public int writeMgrsString() {
+    final int i = next();
+    return translator.writeMgrsString(
+        lats[i], lons[i], CoordinatePrecision.ONE_METER, mgrsChars, 0);
+  }
+
+  @Benchmark
+  public UsngCoordinate toUsngFromBoundingBox() {
+    return translator.toUsng(boundingBoxes[next()]);
+  }
+
+  private int next() {
+    return index++ & (Region.DATASET_SIZE - 1);
+  }
+}
@@ -0,0 +1,112 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.codice.usng4j.BoundingBox;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.NSIndicator;
+import org.codice.usng4j.UtmCoordinate;
+import org.codice.usng4j.impl.CoordinateSystemTranslatorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures the UTM to lat/lon conversions. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InverseProjectionBenchmark {
+
+  @Param({"EQUATORIAL", "NORWAY_SVALBARD", "SOUTHERN_HEMISPHERE"})
+  public Region region;
+
+  private final CoordinateSystemTranslator translator = new CoordinateSystemTranslatorImpl();
+
+  private UtmCoordinate[] utmCoordinates;
+
+  private int[] zoneNumbers;
+
+  private NSIndicator[] nsIndicators;
+
+  private double[] eastings;
+
+  private double[] northings;
+
+  private final double[] lats = new double[Region.DATASET_SIZE];
+
+  private final double[] lons = new double[Region.DATASET_SIZE];
+
+  private int index;
+
+  @Setup
+  public void setUp() {
+    final DecimalDegreesCoordinate[] points = region.points();
+    utmCoordinates = new UtmCoordinate[points.length];
+    zoneNumbers = new int[points.length];
+    nsIndicators = new NSIndicator[points.length];
+    eastings = new double[points.length];
+    northings = new double[points.length];
+
+    for (int i = 0; i < points.length; i++) {
+      utmCoordinates[i] = translator.toUtm(points[i]);
+      zoneNumbers[i] = utmCoordinates[i].getZoneNumber();
+      nsIndicators[i] = utmCoordinates[i].getNSIndicator();
+      eastings[i] = utmCoordinates[i].getEasting();
+      northings[i] = utmCoordinates[i].getNorthing();
+    }
+  }
+
+  @Benchmark
+  public DecimalDegreesCoordinate toLatLon() {
+    return translator.toLatLon(utmCoordinates[next()]);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Region.DATASET_SIZE)
+  public double[] toLatLonBatch() {
+    translator.toLatLon(zoneNumbers, nsIndicators, eastings, northings, lats, lons);
+    return lats;
+  }
+
+  @Benchmark
+  public BoundingBox toBoundingBox() {
+    return translator.toBoundingBox(utmCoordinates[next()]);
+  }
+
+  private int next() {
+    return index++ & (Region.DATASET_SIZE - 1);
+  }
+}
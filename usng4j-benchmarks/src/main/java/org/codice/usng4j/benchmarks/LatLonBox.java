@@ -0,0 +1,62 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.benchmarks;
+
+import org.codice.usng4j.BoundingBox;
+
+/** A minimal {@link BoundingBox} used to feed benchmark inputs to the translator. */
+final class LatLonBox implements BoundingBox {
+  private final double north;
+
+  private final double south;
+
+  private final double east;
+
+  private final double west;
+
+  LatLonBox(final double north, final double south, final double east, final double west) {
+    this.north = north;
+    this.south = south;
+    this.east = east;
+    this.west = west;
+  }
+
+  @Override
+  public double getNorth() {
+    return north;
+  }
+
+  @Override
+  public double getSouth() {
+    return south;
+  }
+
+  @Override
+  public double getEast() {
+    return east;
+  }
+
+  @Override
+  public double getWest() {
+    return west;
+  }
+}
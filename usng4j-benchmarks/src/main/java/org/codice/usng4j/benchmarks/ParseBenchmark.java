@@ -0,0 +1,203 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.ParseResult;
+import org.codice.usng4j.UsngCoordinate;
+import org.codice.usng4j.UtmCoordinate;
+import org.codice.usng4j.UtmUpsCoordinate;
+import org.codice.usng4j.impl.CachingCoordinateSystemTranslator;
+import org.codice.usng4j.impl.CoordinateSystemTranslatorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures parsing of USNG, MGRS and UTM strings. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+  @Param({"EQUATORIAL", "NORWAY_SVALBARD", "SOUTHERN_HEMISPHERE"})
+  public Region region;
+
+  private final CoordinateSystemTranslator translator = new CoordinateSystemTranslatorImpl();
+
+  /** Holds every string of the data set, so it measures the repeated inputs of a busy service. */
+  private final CoordinateSystemTranslator cachingTranslator =
+      new CachingCoordinateSystemTranslator(
+          translator, CachingCoordinateSystemTranslator.DEFAULT_MAXIMUM_SIZE, true);
+
+  private String[] usngStrings;
+
+  private String[] mgrsStrings;
+
+  private String[] utmStrings;
+
+  private String[] malformedMgrsStrings;
+
+  /** Every MGRS string as ASCII, back to back, like coordinates inside a binary message. */
+  private byte[] mgrsBytes;
+
+  private ByteBuffer mgrsBuffer;
+
+  private int[] mgrsOffsets;
+
+  private int index;
+
+  @Setup
+  public void setUp() {
+    final DecimalDegreesCoordinate[] points = region.points();
+    usngStrings = new String[points.length];
+    mgrsStrings = new String[points.length];
+    utmStrings = new String[points.length];
+    malformedMgrsStrings = new String[points.length];
+
+    for (int i = 0; i < points.length; i++) {
+      final UsngCoordinate usng = translator.toUsng(points[i]);
+      final UtmCoordinate utm = translator.toUtm(points[i]);
+      // the translator reports southern northings as negative values; strings carry the offset
+      final double northing =
+          utm.getNorthing() < 0
+              ? utm.getNorthing() + CoordinateSystemTranslatorImpl.NORTHING_OFFSET
+              : utm.getNorthing();
+
+      usngStrings[i] = usng.toString();
+      mgrsStrings[i] = usng.toMgrsString();
+      // an odd number of digits is the most common defect in hand keyed grid references
+      malformedMgrsStrings[i] = mgrsStrings[i].substring(0, mgrsStrings[i].length() - 1);
+      utmStrings[i] =
+          String.format(
+              Locale.ROOT,
+              "%d%c %d %d",
+              utm.getZoneNumber(),
+              usng.getLatitudeBandLetter(),
+              (long) utm.getEasting(),
+              (long) northing);
+    }
+
+    mgrsBytes = String.join("", mgrsStrings).getBytes(StandardCharsets.US_ASCII);
+    mgrsBuffer = ByteBuffer.allocateDirect(mgrsBytes.length);
+    mgrsBuffer.put(mgrsBytes).clear();
+    mgrsOffsets = new int[points.length + 1];
+    for (int i = 0; i < points.length; i++) {
+      mgrsOffsets[i + 1] = mgrsOffsets[i] + mgrsStrings[i].length();
+    }
+  }
+
+  @Benchmark
+  public UsngCoordinate parseUsngString() throws ParseException {
+    return translator.parseUsngString(usngStrings[next()]);
+  }
+
+  @Benchmark
+  public UsngCoordinate parseMgrsString() throws ParseException {
+    return translator.parseMgrsString(mgrsStrings[next()]);
+  }
+
+  @Benchmark
+  public UsngCoordinate parseMgrsStringCached() throws ParseException {
+    return cachingTranslator.parseMgrsString(mgrsStrings[next()]);
+  }
+
+  @Benchmark
+  public UtmCoordinate parseUtmString() throws ParseException {
+    return translator.parseUtmString(utmStrings[next()]);
+  }
+
+  @Benchmark
+  public UtmUpsCoordinate parseUtmUpsString() throws ParseException {
+    return translator.parseUtmUpsString(utmStrings[next()]);
+  }
+
+  @Benchmark
+  public ParseResult<UsngCoordinate> tryParseMgrsString() {
+    return translator.tryParseMgrsString(mgrsStrings[next()]);
+  }
+
+  @Benchmark
+  public ParseResult<UtmUpsCoordinate> tryParseUtmUpsString() {
+    return translator.tryParseUtmUpsString(utmStrings[next()]);
+  }
+
+  @Benchmark
+  public ParseResult<UsngCoordinate> tryParseMgrsDecodedBytes() {
+    final int i = next();
+    return translator.tryParseMgrsString(
+        new String(
+            mgrsBytes,
+            mgrsOffsets[i],
+            mgrsOffsets[i + 1] - mgrsOffsets[i],
+            StandardCharsets.US_ASCII));
+  }
+
+  @Benchmark
+  public ParseResult<UsngCoordinate> tryParseMgrsBytes() {
+    final int i = next();
+    return translator.tryParseMgrsString(
+        mgrsBytes, mgrsOffsets[i], mgrsOffsets[i + 1] - mgrsOffsets[i]);
+  }
+
+  @Benchmark
+  public ParseResult<UsngCoordinate> tryParseMgrsDirectByteBuffer() {
+    final int i = next();
+    mgrsBuffer.limit(mgrsOffsets[i + 1]).position(mgrsOffsets[i]);
+    return translator.tryParseMgrsString(mgrsBuffer);
+  }
+
+  @Benchmark
+  public ParseException parseMalformedMgrsString() {
+    try {
+      translator.parseMgrsString(malformedMgrsStrings[next()]);
+      return null;
+    } catch (ParseException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public ParseResult<UsngCoordinate> tryParseMalformedMgrsString() {
+    return translator.tryParseMgrsString(malformedMgrsStrings[next()]);
+  }
+
+  private int next() {
+    return index++ & (Region.DATASET_SIZE - 1);
+  }
+}
@@ -0,0 +1,111 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.benchmarks;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.UpsCoordinate;
+import org.codice.usng4j.UtmUpsCoordinate;
+import org.codice.usng4j.impl.CoordinateSystemTranslatorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures the polar stereographic (UPS) conversions with points from {@link Region#POLAR}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolarProjectionBenchmark {
+
+  private final CoordinateSystemTranslator translator = new CoordinateSystemTranslatorImpl();
+
+  private DecimalDegreesCoordinate[] points;
+
+  private String[] upsStrings;
+
+  private UtmUpsCoordinate[] upsCoordinates;
+
+  private int index;
+
+  @Setup
+  public void setUp() throws ParseException {
+    points = Region.POLAR.points();
+    upsStrings = new String[points.length];
+    upsCoordinates = new UtmUpsCoordinate[points.length];
+
+    for (int i = 0; i < points.length; i++) {
+      final UtmUpsCoordinate ups = translator.toUtmUps(points[i]);
+      final boolean east = ups.getEasting() >= 2_000_000;
+      final char band = points[i].getLat() >= 0 ? (east ? 'Z' : 'Y') : (east ? 'B' : 'A');
+      upsStrings[i] =
+          String.format(
+              Locale.ROOT,
+              "%c %d %d",
+              band,
+              Math.round(ups.getEasting()),
+              Math.round(ups.getNorthing()));
+      upsCoordinates[i] = translator.parseUtmUpsString(upsStrings[i]);
+    }
+  }
+
+  @Benchmark
+  public UtmUpsCoordinate toUtmUps() {
+    return translator.toUtmUps(points[next()]);
+  }
+
+  @Benchmark
+  public UpsCoordinate toUps() {
+    return translator.toUps(points[next()]);
+  }
+
+  @Benchmark
+  public DecimalDegreesCoordinate toLatLonFromUps() {
+    return translator.toLatLon((UpsCoordinate) upsCoordinates[next()]);
+  }
+
+  @Benchmark
+  public DecimalDegreesCoordinate toLatLonFromUtmUps() {
+    return translator.toLatLon(upsCoordinates[next()]);
+  }
+
+  @Benchmark
+  public UtmUpsCoordinate parseUtmUpsString() throws ParseException {
+    return translator.parseUtmUpsString(upsStrings[next()]);
+  }
+
+  private int next() {
+    return index++ & (Region.DATASET_SIZE - 1);
+  }
+}
@@ -0,0 +1,102 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.benchmarks;
+
+import java.util.Random;
+import org.codice.usng4j.BoundingBox;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+
+/**
+ * The geographic areas that benchmark inputs are drawn from. Each region is a set of lat/lon
+ * rectangles that exercise a different branch of the projection code: the plain 6 degree zones near
+ * the equator, the Norway and Svalbard zone exceptions, the false northing applied in the southern
+ * hemisphere and the polar stereographic (UPS) projection.
+ */
+public enum Region {
+  EQUATORIAL(new double[][] {{-10.0, 10.0, -180.0, 180.0}}),
+  NORWAY_SVALBARD(new double[][] {{56.0, 64.0, 0.0, 12.0}, {72.0, 84.0, 0.0, 42.0}}),
+  SOUTHERN_HEMISPHERE(new double[][] {{-80.0, -10.0, -180.0, 180.0}}),
+  POLAR(new double[][] {{84.0, 90.0, -180.0, 180.0}, {-90.0, -80.0, -180.0, 180.0}});
+
+  /**
+   * The number of points in every dataset. A power of two so benchmarks can cycle through inputs
+   * with a mask instead of a modulo.
+   */
+  static final int DATASET_SIZE = 1 << 12;
+
+  private static final long SEED = 0x75736e67346aL;
+
+  // {south, north, west, east}
+  private final double[][] rectangles;
+
+  Region(final double[][] rectangles) {
+    this.rectangles = rectangles;
+  }
+
+  /**
+   * @return {@link #DATASET_SIZE} points spread uniformly over this region. The same points are
+   *     returned on every call so results are comparable between runs.
+   */
+  DecimalDegreesCoordinate[] points() {
+    final Random random = new Random(SEED + ordinal());
+    final DecimalDegreesCoordinate[] points = new DecimalDegreesCoordinate[DATASET_SIZE];
+
+    for (int i = 0; i < points.length; i++) {
+      final double[] rectangle = rectangles[i % rectangles.length];
+      points[i] =
+          new LatLon(
+              between(random, rectangle[0], rectangle[1]),
+              between(random, rectangle[2], rectangle[3]));
+    }
+
+    return points;
+  }
+
+  /**
+   * @return {@link #DATASET_SIZE} small bounding boxes inside this region, sized so that every USNG
+   *     precision is represented when they are converted with {@code toUsng(BoundingBox)}.
+   */
+  BoundingBox[] boundingBoxes() {
+    final Random random = new Random(~SEED + ordinal());
+    final DecimalDegreesCoordinate[] centers = points();
+    final BoundingBox[] boxes = new BoundingBox[DATASET_SIZE];
+
+    for (int i = 0; i < boxes.length; i++) {
+      // half-widths from roughly 1 m to 1 degree
+      final double halfSize = Math.pow(10, between(random, -5.0, 0.0));
+      final double lat = centers[i].getLat();
+      final double lon = centers[i].getLon();
+      boxes[i] =
+          new LatLonBox(
+              Math.min(lat + halfSize, 84.0),
+              Math.max(lat - halfSize, -80.0),
+              Math.min(lon + halfSize, 179.9),
+              Math.max(lon - halfSize, -179.9));
+    }
+
+    return boxes;
+  }
+
+  private static double between(final Random random, final double from, final double to) {
+    return from + random.nextDouble() * (to - from);
+  }
+}
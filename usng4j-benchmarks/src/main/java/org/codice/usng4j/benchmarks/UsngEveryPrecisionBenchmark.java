@@ -0,0 +1,114 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.UsngCoordinate;
+import org.codice.usng4j.impl.CoordinateSystemTranslatorImpl;
+import org.codice.usng4j.impl.PackedUsngCoordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares converting a lat/lon to USNG at every {@link CoordinatePrecision} one precision at a
+ * time with converting it at every precision from a single projection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UsngEveryPrecisionBenchmark {
+
+  private static final CoordinatePrecision[] PRECISIONS = CoordinatePrecision.values();
+
+  @Param({"EQUATORIAL", "NORWAY_SVALBARD", "SOUTHERN_HEMISPHERE"})
+  public Region region;
+
+  private final CoordinateSystemTranslator translator = new CoordinateSystemTranslatorImpl();
+
+  private final UsngCoordinate[] usngCoordinates = new UsngCoordinate[PRECISIONS.length];
+
+  private final long[] packed = new long[PRECISIONS.length];
+
+  private DecimalDegreesCoordinate[] points;
+
+  private int index;
+
+  @Setup
+  public void setUp() {
+    points = region.points();
+  }
+
+  @Benchmark
+  public UsngCoordinate[] toUsngAtEachPrecision() {
+    final DecimalDegreesCoordinate point = points[next()];
+
+    for (CoordinatePrecision precision : PRECISIONS) {
+      usngCoordinates[precision.ordinal()] = translator.toUsng(point, precision);
+    }
+
+    return usngCoordinates;
+  }
+
+  @Benchmark
+  public UsngCoordinate[] toUsngAtEveryPrecision() {
+    return translator.toUsngAtEveryPrecision(points[next()]);
+  }
+
+  @Benchmark
+  public long[] packedAtEachPrecision() {
+    final DecimalDegreesCoordinate point = points[next()];
+
+    for (CoordinatePrecision precision : PRECISIONS) {
+      packed[precision.ordinal()] =
+          PackedUsngCoordinate.fromLatLon(translator, point.getLat(), point.getLon(), precision);
+    }
+
+    return packed;
+  }
+
+  @Benchmark
+  public long[] packedAtEveryPrecision() {
+    final DecimalDegreesCoordinate point = points[next()];
+    PackedUsngCoordinate.fromLatLonAtEveryPrecision(
+        translator, point.getLat(), point.getLon(), packed, 0);
+    return packed;
+  }
+
+  private int next() {
+    return index++ & (Region.DATASET_SIZE - 1);
+  }
+}
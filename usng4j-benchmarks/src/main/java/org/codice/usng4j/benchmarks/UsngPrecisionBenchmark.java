@@ -0,0 +1,103 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.codice.usng4j.BoundingBox;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.UsngCoordinate;
+import org.codice.usng4j.impl.CachingCoordinateSystemTranslator;
+import org.codice.usng4j.impl.CoordinateSystemTranslatorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures the USNG conversions at every {@link CoordinatePrecision}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UsngPrecisionBenchmark {
+
+  @Param({"EQUATORIAL", "NORWAY_SVALBARD", "SOUTHERN_HEMISPHERE"})
+  public Region region;
+
+  @Param public CoordinatePrecision precision;
+
+  private final CoordinateSystemTranslator translator = new CoordinateSystemTranslatorImpl();
+
+  /** Holds every point of the data set, so it measures the repeated inputs of a busy service. */
+  private final CoordinateSystemTranslator cachingTranslator =
+      new CachingCoordinateSystemTranslator(translator);
+
+  private DecimalDegreesCoordinate[] points;
+
+  private UsngCoordinate[] usngCoordinates;
+
+  private int index;
+
+  @Setup
+  public void setUp() {
+    points = region.points();
+    usngCoordinates = new UsngCoordinate[points.length];
+
+    for (int i = 0; i < points.length; i++) {
+      usngCoordinates[i] = translator.toUsng(points[i], precision);
+    }
+  }
+
+  @Benchmark
+  public UsngCoordinate toUsng() {
+    return translator.toUsng(points[next()], precision);
+  }
+
+  @Benchmark
+  public UsngCoordinate toUsngCached() {
+    return cachingTranslator.toUsng(points[next()], precision);
+  }
+
+  @Benchmark
+  public DecimalDegreesCoordinate toLatLon() {
+    return translator.toLatLon(usngCoordinates[next()]);
+  }
+
+  @Benchmark
+  public BoundingBox toBoundingBox() {
+    return translator.toBoundingBox(usngCoordinates[next()]);
+  }
+
+  private int next() {
+    return index++ & (Region.DATASET_SIZE - 1);
+  }
+}
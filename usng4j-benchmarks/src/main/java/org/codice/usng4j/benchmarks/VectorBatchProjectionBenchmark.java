@@ -0,0 +1,108 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.NSIndicator;
+import org.codice.usng4j.impl.CoordinateSystemTranslatorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the batch UTM conversions with the jdk.incubator.vector module added and the opt-in
+ * org.codice.usng4j.vector property set, so that the SIMD path of the multi-release jar is used.
+ * Compare with the toUtmBatch and toLatLonBatch results of {@link ForwardProjectionBenchmark} and
+ * {@link InverseProjectionBenchmark}, which run on the scalar path. Requires Java 17 or later.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+  value = 1,
+  jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Dorg.codice.usng4j.vector=true"}
+)
+public class VectorBatchProjectionBenchmark {
+
+  @Param({"EQUATORIAL", "NORWAY_SVALBARD", "SOUTHERN_HEMISPHERE"})
+  public Region region;
+
+  private final CoordinateSystemTranslator translator = new CoordinateSystemTranslatorImpl();
+
+  private double[] lats;
+
+  private double[] lons;
+
+  private final int[] zoneNumbers = new int[Region.DATASET_SIZE];
+
+  private final NSIndicator[] nsIndicators = new NSIndicator[Region.DATASET_SIZE];
+
+  private final double[] eastings = new double[Region.DATASET_SIZE];
+
+  private final double[] northings = new double[Region.DATASET_SIZE];
+
+  private final double[] outputLats = new double[Region.DATASET_SIZE];
+
+  private final double[] outputLons = new double[Region.DATASET_SIZE];
+
+  @Setup
+  public void setUp() {
+    final DecimalDegreesCoordinate[] points = region.points();
+    lats = new double[points.length];
+    lons = new double[points.length];
+
+    for (int i = 0; i < points.length; i++) {
+      lats[i] = points[i].getLat();
+      lons[i] = points[i].getLon();
+    }
+
+    // the batch conversion leaves southern northings negative, so no N/S offset is applied
+    translator.toUtm(lats, lons, zoneNumbers, eastings, northings);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Region.DATASET_SIZE)
+  public double[] toUtmBatch() {
+    translator.toUtm(lats, lons, zoneNumbers, eastings, northings);
+    return eastings;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Region.DATASET_SIZE)
+  public double[] toLatLonBatch() {
+    translator.toLatLon(zoneNumbers, nsIndicators, eastings, northings, outputLats, outputLons);
+    return outputLats;
+  }
+}
@@ -0,0 +1,306 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.cli;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Converts the coordinate columns of CSV and NDJSON files with constant memory. The input file is
+ * memory mapped one chunk of lines at a time; chunks are converted in parallel and written in
+ * order, and at most two chunks per thread are held in memory at once. Lines that cannot be
+ * converted are kept, with empty (CSV) or 'null' (NDJSON) output columns.
+ *
+ * <p>Run with no arguments for usage.
+ */
+public final class BulkConverter {
+
+  private static final int SCAN_SIZE = 64 * 1024;
+
+  private final Options options;
+
+  private int[] csvColumns;
+
+  private long converted;
+
+  private long failed;
+
+  private BulkConverter(final Options options) {
+    this.options = options;
+  }
+
+  public static void main(final String[] args) {
+    System.exit(run(args, System.out, System.err));
+  }
+
+  /**
+   * @param args the command line arguments.
+   * @param out receives the converted lines when no output file is given.
+   * @param err receives usage, errors and the summary.
+   * @return the process exit code.
+   */
+  static int run(final String[] args, final OutputStream out, final PrintStream err) {
+    final Options options;
+    try {
+      options = Options.parse(args);
+    } catch (IllegalArgumentException e) {
+      err.println(e.getMessage());
+      err.print(Options.USAGE);
+      return 1;
+    }
+
+    final BulkConverter converter = new BulkConverter(options);
+    try (FileChannel channel =
+            FileChannel.open(options.getInput().toPath(), StandardOpenOption.READ);
+        OutputStream destination =
+            options.getOutput() == null
+                ? new FilterOutputStream(out) {
+                  @Override
+                  public void close() throws IOException {
+                    flush();
+                  }
+                }
+                : new FileOutputStream(options.getOutput())) {
+      final OutputStream buffered = new BufferedOutputStream(destination, SCAN_SIZE);
+      converter.convert(channel, buffered);
+      buffered.flush();
+    } catch (IllegalArgumentException | IOException e) {
+      err.println(e.getMessage());
+      return 1;
+    } catch (IllegalStateException e) {
+      // a worker failed with an unchecked exception
+      err.println("conversion failed: " + e.getCause());
+      return 1;
+    }
+
+    err.println("converted " + converter.converted + " lines, " + converter.failed + " failed");
+    return 0;
+  }
+
+  private void convert(final FileChannel channel, final OutputStream out) throws IOException {
+    final long size = channel.size();
+    long start = 0;
+    if (!options.isNdjson()) {
+      if (options.hasHeader()) {
+        start = lineEnd(channel, 0, size);
+        final byte[] header = read(channel, 0, start);
+        final int length = stripLineTerminator(header, header.length);
+        csvColumns = headerColumns(CsvRecordFormat.split(header, length));
+        out.write(header, 0, length);
+        for (final String name : options.getOutputColumns()) {
+          out.write(("," + name).getBytes(StandardCharsets.UTF_8));
+        }
+
+        out.write('\n');
+      } else {
+        csvColumns = indexColumns();
+      }
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(options.getThreads());
+    final Queue<Future<Chunk>> pending = new ArrayDeque<>();
+    try {
+      while (start < size) {
+        final long end = lineEnd(channel, Math.min(size, start + options.getChunkSize()), size);
+        final long chunkStart = start;
+        pending.add(executor.submit(() -> convertChunk(channel, chunkStart, end)));
+        if (pending.size() >= 2 * options.getThreads()) {
+          write(pending.remove().get(), out);
+        }
+
+        start = end;
+      }
+
+      while (!pending.isEmpty()) {
+        write(pending.remove().get(), out);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Chunk convertChunk(final FileChannel channel, final long start, final long end)
+      throws IOException {
+    final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    final LineConverter lineConverter =
+        new LineConverter(
+            options.getTranslator(),
+            options.getFrom(),
+            options.getTo(),
+            options.getPrecision(),
+            newRecordFormat());
+    // grows with the converted lines, rather than reserving their largest possible size up front
+    final ByteArrayOutputStream out =
+        new ByteArrayOutputStream(Math.max(32, Math.min(SCAN_SIZE, buffer.remaining())));
+    byte[] line = new byte[256];
+    while (buffer.hasRemaining()) {
+      int length = 0;
+      byte b;
+      while (buffer.hasRemaining() && (b = buffer.get()) != '\n') {
+        if (length == line.length) {
+          line = Arrays.copyOf(line, length * 2);
+        }
+
+        line[length++] = b;
+      }
+
+      lineConverter.convert(line, stripLineTerminator(line, length), out);
+    }
+
+    return new Chunk(out, lineConverter.getConverted(), lineConverter.getFailed());
+  }
+
+  private void write(final Chunk chunk, final OutputStream out) throws IOException {
+    chunk.out.writeTo(out);
+    converted += chunk.converted;
+    failed += chunk.failed;
+  }
+
+  private RecordFormat newRecordFormat() {
+    if (options.isNdjson()) {
+      return new NdjsonRecordFormat(
+          options.getColumns(), options.getOutputColumns(), options.getTo().isQuoted());
+    }
+
+    return new CsvRecordFormat(csvColumns);
+  }
+
+  private int[] headerColumns(final List<String> header) {
+    final String[] names = options.getColumns();
+    final int[] columns = new int[names.length];
+    for (int i = 0; i < names.length; i++) {
+      columns[i] = header.indexOf(names[i]);
+      if (columns[i] < 0) {
+        columns[i] = index(names[i], "no column " + names[i] + " in the header");
+      }
+    }
+
+    return columns;
+  }
+
+  private int[] indexColumns() {
+    return Arrays.stream(options.getColumns())
+        .mapToInt(name -> index(name, "column names need --header: " + name))
+        .toArray();
+  }
+
+  private static int index(final String name, final String message) {
+    try {
+      final int index = Integer.parseInt(name);
+      if (index >= 0) {
+        return index;
+      }
+    } catch (NumberFormatException e) {
+      // reported below
+    }
+
+    throw new IllegalArgumentException(message);
+  }
+
+  /** Returns the offset just past the first '\n' at or after 'from', or 'size' if there is none. */
+  private static long lineEnd(final FileChannel channel, final long from, final long size)
+      throws IOException {
+    final ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+    long position = from;
+    while (position < size) {
+      scan.clear();
+      final int read = channel.read(scan, position);
+      if (read < 0) {
+        break;
+      }
+
+      for (int i = 0; i < read; i++) {
+        if (scan.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+
+      position += read;
+    }
+
+    return size;
+  }
+
+  private static byte[] read(final FileChannel channel, final long from, final long to)
+      throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+    while (buffer.hasRemaining() && channel.read(buffer, from + buffer.position()) >= 0) {
+      // keep reading
+    }
+
+    return buffer.array();
+  }
+
+  private static int stripLineTerminator(final byte[] line, final int length) {
+    int end = length;
+    if (end > 0 && line[end - 1] == '\n') {
+      end--;
+    }
+
+    if (end > 0 && line[end - 1] == '\r') {
+      end--;
+    }
+
+    return end;
+  }
+
+  private static final class Chunk {
+    private final ByteArrayOutputStream out;
+
+    private final long converted;
+
+    private final long failed;
+
+    Chunk(final ByteArrayOutputStream out, final long converted, final long failed) {
+      this.out = out;
+      this.converted = converted;
+      this.failed = failed;
+    }
+  }
+}
@@ -0,0 +1,246 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.cli;
+
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.NSIndicator;
+import org.codice.usng4j.ParseResult;
+import org.codice.usng4j.UsngCoordinate;
+import org.codice.usng4j.UtmCoordinate;
+import org.codice.usng4j.UtmUpsCoordinate;
+
+/** The coordinate representations that can be read from and written to columns. */
+enum CoordinateFormat {
+  /** Decimal degree latitude and longitude in two columns. */
+  LATLON(new String[] {"lat", "lon"}, false) {
+    @Override
+    boolean toLatLon(
+        final CoordinateSystemTranslator translator, final String[] values, final double[] latLon) {
+      try {
+        latLon[0] = Double.parseDouble(values[0]);
+        latLon[1] = Double.parseDouble(values[1]);
+      } catch (NumberFormatException e) {
+        return false;
+      }
+
+      return latLon[0] >= -90 && latLon[0] <= 90 && latLon[1] >= -180 && latLon[1] <= 180;
+    }
+
+    @Override
+    void fromLatLon(
+        final CoordinateSystemTranslator translator,
+        final double lat,
+        final double lon,
+        final CoordinatePrecision precision,
+        final char[] buffer,
+        final String[] values) {
+      values[0] = Double.toString(lat);
+      values[1] = Double.toString(lon);
+    }
+  },
+
+  /**
+   * A UTM or UPS string with zone and latitude band, e.g. "18S 323394mE 4307395mN" or "Z 2000000mE
+   * 2000000mN".
+   */
+  UTM(new String[] {"utm"}, true) {
+    @Override
+    boolean toLatLon(
+        final CoordinateSystemTranslator translator, final String[] values, final double[] latLon) {
+      final ParseResult<UtmUpsCoordinate> result = translator.tryParseUtmUpsString(values[0]);
+      return result.isSuccess() && copy(translator.toLatLon(result.getValue()), latLon);
+    }
+
+    @Override
+    void fromLatLon(
+        final CoordinateSystemTranslator translator,
+        final double lat,
+        final double lon,
+        final CoordinatePrecision precision,
+        final char[] buffer,
+        final String[] values) {
+      final StringBuilder utm = new StringBuilder(24);
+      final DecimalDegreesCoordinate latLon = new LatLon(lat, lon);
+
+      if (lat >= -80 && lat <= 84) {
+        // the zone and latitude band follow the library's rules, exceptions included
+        final UsngCoordinate gridZone =
+            translator.toUsng(latLon, CoordinatePrecision.SIX_BY_EIGHT_DEGREES);
+        final UtmCoordinate utmCoordinate = translator.toUtm(latLon);
+        final double northing = utmCoordinate.getNorthing();
+        utm.append(gridZone.getZoneNumber())
+            .append(gridZone.getLatitudeBandLetter())
+            .append(' ')
+            .append(Math.round(utmCoordinate.getEasting()))
+            .append("mE ")
+            .append(Math.round(northing < 0 ? northing + NORTHING_OFFSET : northing));
+      } else {
+        final UtmUpsCoordinate upsCoordinate = translator.toUtmUps(latLon);
+        final boolean east = upsCoordinate.getEasting() >= UPS_FALSE_EASTING;
+        utm.append(
+                upsCoordinate.getNSIndicator() == NSIndicator.NORTH
+                    ? (east ? 'Z' : 'Y')
+                    : (east ? 'B' : 'A'))
+            .append(' ')
+            .append(Math.round(upsCoordinate.getEasting()))
+            .append("mE ")
+            .append(Math.round(upsCoordinate.getNorthing()));
+      }
+
+      values[0] = utm.append("mN").toString();
+    }
+  },
+
+  /** An MGRS string, e.g. "18SUJ2348706483". */
+  MGRS(new String[] {"mgrs"}, true) {
+    @Override
+    boolean toLatLon(
+        final CoordinateSystemTranslator translator, final String[] values, final double[] latLon) {
+      return usngToLatLon(translator, translator.tryParseMgrsString(values[0]), latLon);
+    }
+
+    @Override
+    void fromLatLon(
+        final CoordinateSystemTranslator translator,
+        final double lat,
+        final double lon,
+        final CoordinatePrecision precision,
+        final char[] buffer,
+        final String[] values) {
+      values[0] = new String(buffer, 0, translator.writeMgrsString(lat, lon, precision, buffer, 0));
+    }
+  },
+
+  /** A USNG string, e.g. "18S UJ 23487 06483". */
+  USNG(new String[] {"usng"}, true) {
+    @Override
+    boolean toLatLon(
+        final CoordinateSystemTranslator translator, final String[] values, final double[] latLon) {
+      return usngToLatLon(translator, translator.tryParseUsngString(values[0]), latLon);
+    }
+
+    @Override
+    void fromLatLon(
+        final CoordinateSystemTranslator translator,
+        final double lat,
+        final double lon,
+        final CoordinatePrecision precision,
+        final char[] buffer,
+        final String[] values) {
+      values[0] = new String(buffer, 0, translator.writeUsngString(lat, lon, precision, buffer, 0));
+    }
+  };
+
+  private static final double NORTHING_OFFSET = 10_000_000;
+
+  private static final double UPS_FALSE_EASTING = 2_000_000;
+
+  private final String[] defaultColumnNames;
+
+  private final boolean quoted;
+
+  CoordinateFormat(final String[] defaultColumnNames, final boolean quoted) {
+    this.defaultColumnNames = defaultColumnNames;
+    this.quoted = quoted;
+  }
+
+  /** @return the number of columns this representation occupies. */
+  int getColumnCount() {
+    return defaultColumnNames.length;
+  }
+
+  /** @return the column names used when none are given. */
+  String[] getDefaultColumnNames() {
+    return defaultColumnNames.clone();
+  }
+
+  /** @return 'true' if values are text, 'false' if they are numbers. */
+  boolean isQuoted() {
+    return quoted;
+  }
+
+  /**
+   * @param values the column values of this representation.
+   * @param latLon receives the latitude and longitude.
+   * @return 'false' if the values could not be converted.
+   */
+  abstract boolean toLatLon(
+      CoordinateSystemTranslator translator, String[] values, double[] latLon);
+
+  /**
+   * @param buffer scratch space for the encoders.
+   * @param values receives the column values of this representation.
+   * @throws IllegalArgumentException if the point cannot be represented.
+   */
+  abstract void fromLatLon(
+      CoordinateSystemTranslator translator,
+      double lat,
+      double lon,
+      CoordinatePrecision precision,
+      char[] buffer,
+      String[] values);
+
+  private static boolean usngToLatLon(
+      final CoordinateSystemTranslator translator,
+      final ParseResult<UsngCoordinate> result,
+      final double[] latLon) {
+    if (!result.isSuccess()) {
+      return false;
+    }
+
+    try {
+      return copy(translator.toLatLon(result.getValue()), latLon);
+    } catch (RuntimeException e) {
+      // coarse precisions are rejected by the USNG to lat/lon conversion
+      return false;
+    }
+  }
+
+  private static boolean copy(final DecimalDegreesCoordinate coordinate, final double[] latLon) {
+    latLon[0] = coordinate.getLat();
+    latLon[1] = coordinate.getLon();
+    return true;
+  }
+
+  private static final class LatLon implements DecimalDegreesCoordinate {
+    private final double lat;
+
+    private final double lon;
+
+    LatLon(final double lat, final double lon) {
+      this.lat = lat;
+      this.lon = lon;
+    }
+
+    @Override
+    public double getLat() {
+      return lat;
+    }
+
+    @Override
+    public double getLon() {
+      return lon;
+    }
+  }
+}
@@ -0,0 +1,164 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Comma separated values as described by RFC 4180, except that quoted fields must not span lines.
+ * Output columns are appended unquoted and left empty when a conversion fails.
+ */
+final class CsvRecordFormat implements RecordFormat {
+
+  private static final byte SEPARATOR = ',';
+
+  private static final byte QUOTE = '"';
+
+  private final int[] slots;
+
+  private final int lastColumn;
+
+  private final StringBuilder field = new StringBuilder();
+
+  /** @param columns the zero based indexes of the input columns. */
+  CsvRecordFormat(final int[] columns) {
+    this.lastColumn = Arrays.stream(columns).max().orElse(-1);
+    this.slots = new int[lastColumn + 1];
+    Arrays.fill(slots, -1);
+    for (int i = 0; i < columns.length; i++) {
+      slots[columns[i]] = i;
+    }
+  }
+
+  @Override
+  public boolean read(final byte[] line, final int length, final String[] values) {
+    int column = 0;
+    int position = 0;
+    while (column <= lastColumn) {
+      final int slot = slots[column];
+      position = slot < 0 ? skipField(line, position, length) : readField(line, position, length);
+      if (slot >= 0) {
+        values[slot] = field.toString().trim();
+      }
+
+      if (position >= length) {
+        return column == lastColumn;
+      }
+
+      column++;
+      position++;
+    }
+
+    return true;
+  }
+
+  @Override
+  public void write(
+      final byte[] line, final int length, final String[] values, final ByteArrayOutputStream out) {
+    out.write(line, 0, length);
+    for (final String value : values) {
+      out.write(SEPARATOR);
+      if (value != null) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.write(bytes, 0, bytes.length);
+      }
+    }
+
+    out.write('\n');
+  }
+
+  /**
+   * @param line the bytes of the line, without the line terminator.
+   * @param length the number of bytes in 'line'.
+   * @return every field of the line, unquoted.
+   */
+  static List<String> split(final byte[] line, final int length) {
+    final CsvRecordFormat format = new CsvRecordFormat(new int[0]);
+    final List<String> fields = new ArrayList<>();
+    int position = 0;
+    do {
+      position = format.readField(line, position, length) + 1;
+      fields.add(format.field.toString().trim());
+    } while (position <= length);
+
+    return fields;
+  }
+
+  /** Decodes the field starting at 'position' and returns the index of the byte that ends it. */
+  private int readField(final byte[] line, final int position, final int length) {
+    field.setLength(0);
+    int start = position;
+    int i = position;
+    boolean quoted = false;
+    while (i < length) {
+      final byte b = line[i];
+      if (quoted) {
+        if (b == QUOTE) {
+          append(line, start, i);
+          if (i + 1 < length && line[i + 1] == QUOTE) {
+            i++;
+            start = i;
+          } else {
+            quoted = false;
+            start = i + 1;
+          }
+        }
+      } else if (b == QUOTE) {
+        append(line, start, i);
+        quoted = true;
+        start = i + 1;
+      } else if (b == SEPARATOR) {
+        break;
+      }
+
+      i++;
+    }
+
+    append(line, start, i);
+    return i;
+  }
+
+  /** Returns the index of the byte that ends the field starting at 'position'. */
+  private static int skipField(final byte[] line, final int position, final int length) {
+    boolean quoted = false;
+    int i = position;
+    while (i < length && (quoted || line[i] != SEPARATOR)) {
+      if (line[i] == QUOTE) {
+        quoted = !quoted;
+      }
+
+      i++;
+    }
+
+    return i;
+  }
+
+  private void append(final byte[] line, final int from, final int to) {
+    if (to > from) {
+      field.append(new String(line, from, to - from, StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.CoordinateSystemTranslator;
+
+/** Converts the coordinate of one line at a time. Instances are not thread safe. */
+final class LineConverter {
+
+  private final CoordinateSystemTranslator translator;
+
+  private final CoordinateFormat from;
+
+  private final CoordinateFormat to;
+
+  private final CoordinatePrecision precision;
+
+  private final RecordFormat recordFormat;
+
+  private final String[] inputValues;
+
+  private final String[] outputValues;
+
+  private final double[] latLon = new double[2];
+
+  private final char[] buffer = new char[32];
+
+  private long converted;
+
+  private long failed;
+
+  LineConverter(
+      final CoordinateSystemTranslator translator,
+      final CoordinateFormat from,
+      final CoordinateFormat to,
+      final CoordinatePrecision precision,
+      final RecordFormat recordFormat) {
+    this.translator = translator;
+    this.from = from;
+    this.to = to;
+    this.precision = precision;
+    this.recordFormat = recordFormat;
+    this.inputValues = new String[from.getColumnCount()];
+    this.outputValues = new String[to.getColumnCount()];
+  }
+
+  /**
+   * Writes a line with the converted columns appended. Blank lines are copied unchanged.
+   *
+   * @param line the bytes of the line, without the line terminator.
+   * @param length the number of bytes in 'line'.
+   * @param out the stream to write to.
+   */
+  void convert(final byte[] line, final int length, final ByteArrayOutputStream out) {
+    if (isBlank(line, length)) {
+      out.write(line, 0, length);
+      out.write('\n');
+      return;
+    }
+
+    if (convert(line, length)) {
+      converted++;
+    } else {
+      Arrays.fill(outputValues, null);
+      failed++;
+    }
+
+    recordFormat.write(line, length, outputValues, out);
+  }
+
+  /** @return the number of lines converted so far. */
+  long getConverted() {
+    return converted;
+  }
+
+  /** @return the number of lines that could not be converted so far. */
+  long getFailed() {
+    return failed;
+  }
+
+  private boolean convert(final byte[] line, final int length) {
+    if (!recordFormat.read(line, length, inputValues)
+        || !from.toLatLon(translator, inputValues, latLon)) {
+      return false;
+    }
+
+    try {
+      to.fromLatLon(translator, latLon[0], latLon[1], precision, buffer, outputValues);
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+
+    return true;
+  }
+
+  private static boolean isBlank(final byte[] line, final int length) {
+    for (int i = 0; i < length; i++) {
+      if (line[i] != ' ' && line[i] != '\t') {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
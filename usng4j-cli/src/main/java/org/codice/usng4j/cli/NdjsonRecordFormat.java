@@ -0,0 +1,289 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Newline delimited JSON objects. Input columns are top level members; string and number values are
+ * accepted. Output columns are appended as members of the object and are 'null' when a conversion
+ * fails. Lines that are not objects are copied unchanged.
+ */
+final class NdjsonRecordFormat implements RecordFormat {
+
+  private final String[] inputNames;
+
+  private final byte[][] outputNames;
+
+  private final boolean quoteOutput;
+
+  private final StringBuilder text = new StringBuilder();
+
+  private int position;
+
+  /**
+   * @param inputNames the names of the input members.
+   * @param outputNames the names of the output members.
+   * @param quoteOutput 'true' to write output values as strings, 'false' to write them as numbers.
+   */
+  NdjsonRecordFormat(
+      final String[] inputNames, final String[] outputNames, final boolean quoteOutput) {
+    this.inputNames = inputNames.clone();
+    this.outputNames =
+        Arrays.stream(outputNames)
+            .map(name -> quote(name).getBytes(StandardCharsets.UTF_8))
+            .toArray(byte[][]::new);
+    this.quoteOutput = quoteOutput;
+  }
+
+  @Override
+  public boolean read(final byte[] line, final int length, final String[] values) {
+    Arrays.fill(values, null);
+    position = 0;
+    if (skipWhitespace(line, length) != '{') {
+      return false;
+    }
+
+    position++;
+    int found = 0;
+    while (skipWhitespace(line, length) == '"') {
+      final String name = readString(line, length);
+      if (name == null || skipWhitespace(line, length) != ':') {
+        return false;
+      }
+
+      position++;
+      final int slot = indexOf(name);
+      final byte first = skipWhitespace(line, length);
+      if (slot >= 0 && values[slot] == null) {
+        final String value = first == '"' ? readString(line, length) : readLiteral(line, length);
+        if (value == null) {
+          return false;
+        }
+
+        values[slot] = value;
+        found++;
+      } else if (!skipValue(line, length)) {
+        return false;
+      }
+
+      if (skipWhitespace(line, length) != ',') {
+        break;
+      }
+
+      position++;
+    }
+
+    return found == inputNames.length;
+  }
+
+  @Override
+  public void write(
+      final byte[] line, final int length, final String[] values, final ByteArrayOutputStream out) {
+    int end = length - 1;
+    while (end >= 0 && isWhitespace(line[end])) {
+      end--;
+    }
+
+    if (end < 0 || line[end] != '}') {
+      out.write(line, 0, length);
+      out.write('\n');
+      return;
+    }
+
+    int last = end - 1;
+    while (last >= 0 && isWhitespace(line[last])) {
+      last--;
+    }
+
+    out.write(line, 0, end);
+    for (int i = 0; i < outputNames.length; i++) {
+      if (i > 0 || (last >= 0 && line[last] != '{')) {
+        out.write(',');
+      }
+
+      out.write(outputNames[i], 0, outputNames[i].length);
+      out.write(':');
+      final String value = values[i] == null ? "null" : quoteOutput ? quote(values[i]) : values[i];
+      final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.write(bytes, 0, bytes.length);
+    }
+
+    out.write(line, end, length - end);
+    out.write('\n');
+  }
+
+  private int indexOf(final String name) {
+    for (int i = 0; i < inputNames.length; i++) {
+      if (inputNames[i].equals(name)) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  private byte skipWhitespace(final byte[] line, final int length) {
+    while (position < length && isWhitespace(line[position])) {
+      position++;
+    }
+
+    return position < length ? line[position] : 0;
+  }
+
+  /** Reads the string starting at 'position', or returns 'null' if it is not terminated. */
+  private String readString(final byte[] line, final int length) {
+    text.setLength(0);
+    int start = ++position;
+    while (position < length) {
+      final byte b = line[position];
+      if (b == '"') {
+        append(line, start, position++);
+        return text.toString();
+      } else if (b == '\\') {
+        append(line, start, position);
+        if (position + 1 >= length) {
+          return null;
+        }
+
+        final byte escaped = line[position + 1];
+        if (escaped == 'u') {
+          if (position + 6 > length) {
+            return null;
+          }
+
+          try {
+            text.append(
+                (char)
+                    Integer.parseInt(
+                        new String(line, position + 2, 4, StandardCharsets.US_ASCII), 16));
+          } catch (NumberFormatException e) {
+            return null;
+          }
+
+          position += 6;
+        } else {
+          text.append(unescape(escaped));
+          position += 2;
+        }
+
+        start = position;
+      } else {
+        position++;
+      }
+    }
+
+    return null;
+  }
+
+  /** Reads the number or literal starting at 'position', or returns 'null' if there is none. */
+  private String readLiteral(final byte[] line, final int length) {
+    final int start = position;
+    while (position < length
+        && line[position] != ','
+        && line[position] != '}'
+        && !isWhitespace(line[position])) {
+      position++;
+    }
+
+    return position > start
+        ? new String(line, start, position - start, StandardCharsets.UTF_8)
+        : null;
+  }
+
+  /** Skips the value starting at 'position', or returns 'false' if it is not terminated. */
+  private boolean skipValue(final byte[] line, final int length) {
+    int depth = 0;
+    boolean inString = false;
+    while (position < length) {
+      final byte b = line[position];
+      if (inString) {
+        if (b == '\\') {
+          position++;
+        } else if (b == '"') {
+          inString = false;
+        }
+      } else if (b == '"') {
+        inString = true;
+      } else if (b == '{' || b == '[') {
+        depth++;
+      } else if (b == '}' || b == ']') {
+        if (depth == 0) {
+          return true;
+        }
+
+        depth--;
+      } else if (b == ',' && depth == 0) {
+        return true;
+      }
+
+      position++;
+    }
+
+    return false;
+  }
+
+  private void append(final byte[] line, final int from, final int to) {
+    if (to > from) {
+      text.append(new String(line, from, to - from, StandardCharsets.UTF_8));
+    }
+  }
+
+  private static char unescape(final byte escaped) {
+    switch (escaped) {
+      case 'b':
+        return '\b';
+      case 'f':
+        return '\f';
+      case 'n':
+        return '\n';
+      case 'r':
+        return '\r';
+      case 't':
+        return '\t';
+      default:
+        return (char) escaped;
+    }
+  }
+
+  private static boolean isWhitespace(final byte b) {
+    return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+  }
+
+  private static String quote(final String value) {
+    final StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        quoted.append('\\').append(c);
+      } else if (c < 0x20) {
+        quoted.append(String.format("\\u%04x", (int) c));
+      } else {
+        quoted.append(c);
+      }
+    }
+
+    return quoted.append('"').toString();
+  }
+}
@@ -0,0 +1,295 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.cli;
+
+import java.io.File;
+import java.util.Locale;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.impl.CoordinateSystemTranslators;
+
+/** The command line options of {@link BulkConverter}. */
+final class Options {
+
+  static final String USAGE =
+      "usage: usng4j-convert --from FORMAT --to FORMAT [options] INPUT\n"
+          + "\n"
+          + "Appends converted coordinate columns to every line of a CSV or NDJSON file.\n"
+          + "FORMAT is one of latlon, utm, mgrs or usng.\n"
+          + "\n"
+          + "  --format csv|ndjson        record format (default: from the file extension)\n"
+          + "  --columns A[,B]            input columns: CSV indexes or header names,\n"
+          + "                             NDJSON member names (default: lat,lon / utm / mgrs / usng)\n"
+          + "  --output-columns A[,B]     names of the appended columns (default as --columns)\n"
+          + "  --header                   the first CSV line is a header\n"
+          + "  --precision PRECISION      MGRS/USNG precision, e.g. ONE_METER (default)\n"
+          + "  --datum nad83|nad27|wgs84  the datum of the coordinates (default: nad83)\n"
+          + "  --threads N                worker threads (default: available processors)\n"
+          + "  --chunk-size BYTES         bytes of input per task (default: 8388608)\n"
+          + "  --output FILE              write to FILE instead of standard output\n"
+          + "\n"
+          + "The converted lines of up to 2 chunks per thread are held in memory, so the heap\n"
+          + "needed is about 4 x threads x chunk-size bytes, whatever the size of the file.\n";
+
+  static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+  private CoordinateFormat from;
+
+  private CoordinateFormat to;
+
+  private String format;
+
+  private String[] columns;
+
+  private String[] outputColumns;
+
+  private boolean header;
+
+  private CoordinatePrecision precision = CoordinatePrecision.ONE_METER;
+
+  private CoordinateSystemTranslator translator = CoordinateSystemTranslators.nad83();
+
+  private int threads = Runtime.getRuntime().availableProcessors();
+
+  private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+  private File output;
+
+  private File input;
+
+  private Options() {}
+
+  /**
+   * @param args the command line arguments.
+   * @return the parsed options.
+   * @throws IllegalArgumentException if the arguments are not valid.
+   */
+  static Options parse(final String[] args) {
+    final Options options = new Options();
+    for (int i = 0; i < args.length; i++) {
+      final String arg = args[i];
+      if ("--header".equals(arg)) {
+        options.header = true;
+        continue;
+      }
+
+      if (!arg.startsWith("--")) {
+        if (options.input != null) {
+          throw new IllegalArgumentException("only one input file may be given");
+        }
+
+        options.input = new File(arg);
+        continue;
+      }
+
+      if (i + 1 == args.length) {
+        throw new IllegalArgumentException("missing value for " + arg);
+      }
+
+      final String value = args[++i];
+      switch (arg) {
+        case "--from":
+          options.from = coordinateFormat(value);
+          break;
+        case "--to":
+          options.to = coordinateFormat(value);
+          break;
+        case "--format":
+          options.format = recordFormat(value);
+          break;
+        case "--columns":
+          options.columns = value.split(",", -1);
+          break;
+        case "--output-columns":
+          options.outputColumns = value.split(",", -1);
+          break;
+        case "--precision":
+          options.precision = enumValue(CoordinatePrecision.class, value, "precision");
+          break;
+        case "--datum":
+          options.translator = translator(value);
+          break;
+        case "--threads":
+          options.threads = positiveInt(value, arg);
+          break;
+        case "--chunk-size":
+          options.chunkSize = positiveInt(value, arg);
+          break;
+        case "--output":
+          options.output = new File(value);
+          break;
+        default:
+          throw new IllegalArgumentException("unknown option " + arg);
+      }
+    }
+
+    options.validate();
+    return options;
+  }
+
+  private void validate() {
+    if (from == null || to == null) {
+      throw new IllegalArgumentException("--from and --to are required");
+    }
+
+    if (input == null) {
+      throw new IllegalArgumentException("an input file is required");
+    }
+
+    if (format == null) {
+      final String name = input.getName().toLowerCase(Locale.ROOT);
+      format = name.endsWith(".ndjson") || name.endsWith(".jsonl") ? "ndjson" : "csv";
+    }
+
+    if (header && isNdjson()) {
+      throw new IllegalArgumentException("--header is only valid for CSV");
+    }
+
+    if (columns == null) {
+      columns = isNdjson() || header ? from.getDefaultColumnNames() : defaultIndexes();
+    }
+
+    if (outputColumns == null) {
+      outputColumns = to.getDefaultColumnNames();
+    }
+
+    if (columns.length != from.getColumnCount()) {
+      throw new IllegalArgumentException(
+          "--from " + name(from) + " needs " + from.getColumnCount() + " column(s)");
+    }
+
+    if (outputColumns.length != to.getColumnCount()) {
+      throw new IllegalArgumentException(
+          "--to " + name(to) + " needs " + to.getColumnCount() + " output column(s)");
+    }
+  }
+
+  CoordinateFormat getFrom() {
+    return from;
+  }
+
+  CoordinateFormat getTo() {
+    return to;
+  }
+
+  boolean isNdjson() {
+    return "ndjson".equals(format);
+  }
+
+  String[] getColumns() {
+    return columns.clone();
+  }
+
+  String[] getOutputColumns() {
+    return outputColumns.clone();
+  }
+
+  boolean hasHeader() {
+    return header;
+  }
+
+  CoordinatePrecision getPrecision() {
+    return precision;
+  }
+
+  CoordinateSystemTranslator getTranslator() {
+    return translator;
+  }
+
+  int getThreads() {
+    return threads;
+  }
+
+  int getChunkSize() {
+    return chunkSize;
+  }
+
+  /** @return the output file, or 'null' for standard output. */
+  File getOutput() {
+    return output;
+  }
+
+  File getInput() {
+    return input;
+  }
+
+  private String[] defaultIndexes() {
+    final String[] indexes = new String[from.getColumnCount()];
+    for (int i = 0; i < indexes.length; i++) {
+      indexes[i] = Integer.toString(i);
+    }
+
+    return indexes;
+  }
+
+  private static CoordinateFormat coordinateFormat(final String value) {
+    return enumValue(CoordinateFormat.class, value, "coordinate format");
+  }
+
+  private static String recordFormat(final String value) {
+    final String format = value.toLowerCase(Locale.ROOT);
+    if (!"csv".equals(format) && !"ndjson".equals(format)) {
+      throw new IllegalArgumentException("unknown record format " + value);
+    }
+
+    return format;
+  }
+
+  private static CoordinateSystemTranslator translator(final String value) {
+    switch (value.toLowerCase(Locale.ROOT)) {
+      case "nad83":
+        return CoordinateSystemTranslators.nad83();
+      case "nad27":
+        return CoordinateSystemTranslators.nad27();
+      case "wgs84":
+        return CoordinateSystemTranslators.wgs84();
+      default:
+        throw new IllegalArgumentException("unknown datum " + value);
+    }
+  }
+
+  private static <T extends Enum<T>> T enumValue(
+      final Class<T> type, final String value, final String what) {
+    try {
+      return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("unknown " + what + " " + value, e);
+    }
+  }
+
+  private static int positiveInt(final String value, final String option) {
+    try {
+      final int result = Integer.parseInt(value);
+      if (result > 0) {
+        return result;
+      }
+    } catch (NumberFormatException e) {
+      // reported below
+    }
+
+    throw new IllegalArgumentException(option + " must be a positive integer");
+  }
+
+  private static String name(final CoordinateFormat format) {
+    return format.name().toLowerCase(Locale.ROOT);
+  }
+}
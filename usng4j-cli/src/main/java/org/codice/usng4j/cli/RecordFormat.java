@@ -0,0 +1,49 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.cli;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Reads coordinate columns from, and appends converted columns to, a single UTF-8 encoded line.
+ * Implementations are not thread safe; every worker uses its own instance.
+ */
+interface RecordFormat {
+
+  /**
+   * @param line the bytes of the line, without the line terminator.
+   * @param length the number of bytes in 'line'.
+   * @param values receives the input column values, in the configured order.
+   * @return 'false' if the line does not contain every input column.
+   */
+  boolean read(byte[] line, int length, String[] values);
+
+  /**
+   * Writes the line followed by the output columns and a '\n'.
+   *
+   * @param line the bytes of the line, without the line terminator.
+   * @param length the number of bytes in 'line'.
+   * @param values the output column values, or 'null' if the conversion failed.
+   * @param out the stream to write to.
+   */
+  void write(byte[] line, int length, String[] values, ByteArrayOutputStream out);
+}
@@ -0,0 +1,179 @@
+package org.codice.usng4j.cli;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.impl.CoordinateSystemTranslators;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BulkConverterTest {
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+  private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+  @Test
+  public void testCsvLatLonToMgrsKeepsOrderAcrossChunksAndThreads() throws IOException {
+    final StringBuilder input = new StringBuilder("id,\"lat\",lon\r\n");
+    final StringBuilder expected = new StringBuilder("id,\"lat\",lon,mgrs\n");
+    final char[] buffer = new char[16];
+    for (int i = 0; i < 500; i++) {
+      final double lat = -79 + i * 0.3;
+      final double lon = -179 + i * 0.7;
+      final String line = "\"row, " + i + "\"," + lat + "," + lon;
+      input.append(line).append(i % 2 == 0 ? "\r\n" : "\n");
+      final int length =
+          CoordinateSystemTranslators.nad83()
+              .writeMgrsString(lat, lon, CoordinatePrecision.ONE_METER, buffer, 0);
+      expected.append(line).append(',').append(buffer, 0, length).append('\n');
+    }
+
+    input.append("\nbad,north,west\nshort,1\n");
+    expected.append("\nbad,north,west,\nshort,1,\n");
+
+    final File file = write("points.csv", input.toString());
+    final int status =
+        run(
+            "--from",
+            "latlon",
+            "--to",
+            "mgrs",
+            "--header",
+            "--columns",
+            "lat,lon",
+            "--threads",
+            "3",
+            "--chunk-size",
+            "64",
+            file.getPath());
+
+    assertThat(status, is(0));
+    assertThat(output(), is(expected.toString()));
+    assertThat(errors(), containsString("converted 500 lines, 2 failed"));
+  }
+
+  @Test
+  public void testNdjsonUsngToLatLon() throws IOException {
+    final File file =
+        write(
+            "points.ndjson",
+            "{\"name\":\"a\",\"nested\":{\"usng\":1},\"usng\":\"18S UJ 23487 06483\"}\n"
+                + "{ }\n"
+                + "{\"usng\":\"not a coordinate\",\"tags\":[\"x\",\"}\"]}\n"
+                + "[1,2]\n");
+    final int status =
+        run("--from", "usng", "--to", "latlon", "--output-columns", "y,x", file.getPath());
+
+    final String[] lines = output().split("\n");
+    assertThat(status, is(0));
+    assertThat(lines.length, is(4));
+    assertThat(
+        lines[0].startsWith(
+            "{\"name\":\"a\",\"nested\":{\"usng\":1},\"usng\":\"18S UJ 23487 06483\",\"y\":38.8"),
+        is(true));
+    assertThat(lines[0], containsString(",\"x\":-77.0"));
+    assertThat(lines[1], is("{ \"y\":null,\"x\":null}"));
+    assertThat(
+        lines[2],
+        is("{\"usng\":\"not a coordinate\",\"tags\":[\"x\",\"}\"],\"y\":null,\"x\":null}"));
+    assertThat(lines[3], is("[1,2]"));
+    assertThat(errors(), containsString("converted 1 lines, 3 failed"));
+  }
+
+  @Test
+  public void testUtmRoundTripInTheSouthAndAtThePoles() throws IOException {
+    final File latLon = write("points.csv", "-33.9,18.4\n89.5,45\n-89.5,-135\n");
+    final File utm = folder.newFile("utm.csv");
+    assertThat(
+        run("--from", "latlon", "--to", "utm", "--output", utm.getPath(), latLon.getPath()), is(0));
+
+    final String[] lines =
+        new String(Files.readAllBytes(utm.toPath()), StandardCharsets.UTF_8).split("\n");
+    assertThat(lines[0].startsWith("-33.9,18.4,34H "), is(true));
+    assertThat(lines[1].startsWith("89.5,45,Z "), is(true));
+    assertThat(lines[2].startsWith("-89.5,-135,A "), is(true));
+
+    assertThat(run("--from", "utm", "--to", "latlon", "--columns", "2", utm.getPath()), is(0));
+    final String[] roundTrip = output().split("\n");
+    for (int i = 0; i < roundTrip.length; i++) {
+      final String[] fields = roundTrip[i].split(",");
+      assertThat(
+          Math.abs(Double.parseDouble(fields[3]) - Double.parseDouble(fields[0])) < 1e-4, is(true));
+      assertThat(
+          Math.abs(Double.parseDouble(fields[4]) - Double.parseDouble(fields[1])) < 1e-3, is(true));
+    }
+  }
+
+  @Test
+  public void testUtmMetersAreRounded() throws IOException {
+    final File file = write("points.csv", "38.8895,-77.0352\n");
+    final double[] easting = new double[1];
+    final double[] northing = new double[1];
+    CoordinateSystemTranslators.nad83()
+        .toUtm(new double[] {38.8895}, new double[] {-77.0352}, new int[1], easting, northing);
+
+    assertThat(run("--from", "latlon", "--to", "utm", file.getPath()), is(0));
+    assertThat(
+        output(),
+        is(
+            "38.8895,-77.0352,18S "
+                + Math.round(easting[0])
+                + "mE "
+                + Math.round(northing[0])
+                + "mN\n"));
+  }
+
+  @Test
+  public void testUtmGridZoneMatchesTheLibrary() throws IOException {
+    final File file = write("points.csv", "-1.0E-17,9\n");
+    final char[] gridZone = new char[3];
+    CoordinateSystemTranslators.nad83()
+        .writeMgrsString(-1e-17, 9, CoordinatePrecision.SIX_BY_EIGHT_DEGREES, gridZone, 0);
+
+    assertThat(run("--from", "latlon", "--to", "utm", file.getPath()), is(0));
+    assertThat(output(), containsString("," + new String(gridZone) + " "));
+  }
+
+  @Test
+  public void testInvalidOptionsPrintUsage() throws IOException {
+    final File file = write("points.ndjson", "{}\n");
+
+    assertThat(run("--from", "latlon", file.getPath()), is(1));
+    assertThat(run("--from", "latlon", "--to", "geohash", file.getPath()), is(1));
+    assertThat(run("--from", "latlon", "--to", "mgrs", "--header", file.getPath()), is(1));
+    assertThat(run("--from", "latlon", "--to", "mgrs", "--columns", "lat", file.getPath()), is(1));
+    assertThat(run("--from", "latlon", "--to", "mgrs", "--threads", "0", file.getPath()), is(1));
+    assertThat(errors(), containsString("usage: usng4j-convert"));
+    assertThat(out.size(), is(0));
+  }
+
+  private int run(final String... args) {
+    out.reset();
+    return BulkConverter.run(args, out, new PrintStream(err, true));
+  }
+
+  private String output() {
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private String errors() {
+    return new String(err.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private File write(final String name, final String content) throws IOException {
+    final File file = folder.newFile(name);
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+}
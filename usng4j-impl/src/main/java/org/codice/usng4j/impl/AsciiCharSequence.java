@@ -0,0 +1,108 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A view of ASCII encoded bytes as characters, so that the coordinate string parsers can scan
+ * binary input without decoding it into a String first. Bytes outside of the ASCII range map to
+ * characters that no parser accepts. A view can be pointed at other bytes with {@link #wrap(byte[],
+ * int, int)}, so each thread can keep one and parse without allocating; instances are therefore not
+ * thread safe. Call {@link #clear()} when done so that a long-lived view doesn't keep the caller's
+ * bytes reachable.
+ */
+final class AsciiCharSequence implements CharSequence {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private byte[] array;
+
+  private int offset;
+
+  private int length;
+
+  AsciiCharSequence() {
+    this(EMPTY, 0, 0);
+  }
+
+  private AsciiCharSequence(final byte[] array, final int offset, final int length) {
+    this.array = array;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * @param source the bytes to view; later changes to them are visible through this view.
+   * @param offset the index in 'source' of the first byte.
+   * @param length the number of bytes to view.
+   * @return this view.
+   * @throws IndexOutOfBoundsException if the range is not within 'source'.
+   */
+  AsciiCharSequence wrap(final byte[] source, final int offset, final int length) {
+    if (offset < 0 || length < 0 || offset > source.length - length) {
+      throw new IndexOutOfBoundsException(
+          String.format("offset %d and length %d for %d bytes", offset, length, source.length));
+    }
+
+    this.array = source;
+    this.offset = offset;
+    this.length = length;
+    return this;
+  }
+
+  /** Drops the reference to the viewed bytes, leaving an empty view. */
+  void clear() {
+    this.array = EMPTY;
+    this.offset = 0;
+    this.length = 0;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(final int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("index " + index + " for length " + length);
+    }
+
+    return (char) (array[offset + index] & 0xFF);
+  }
+
+  @Override
+  public CharSequence subSequence(final int start, final int end) {
+    if (start < 0 || start > end || end > length) {
+      throw new IndexOutOfBoundsException(
+          String.format("start %d and end %d for length %d", start, end, length));
+    }
+
+    return new AsciiCharSequence(array, offset + start, end - start);
+  }
+
+  @Override
+  public String toString() {
+    return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+  }
+}
@@ -0,0 +1,63 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+import org.codice.usng4j.NSIndicator;
+
+/**
+ * A bulk implementation of the Snyder series Transverse Mercator projection used by the batch
+ * methods of {@link CoordinateSystemTranslatorImpl}. Implementations may convert only a prefix of
+ * the requested range, e.g. a whole number of SIMD vectors, and leave the rest to the scalar code.
+ */
+interface BatchProjection {
+  /**
+   * Projects the valid lat/lon points {@code offset} to {@code offset + length - 1} into the zones
+   * already stored in 'zoneNumbers'.
+   *
+   * @return the number of points converted, starting at 'offset'.
+   */
+  int toUtm(
+      Ellipsoid ellipsoid,
+      double[] lats,
+      double[] lons,
+      int[] zoneNumbers,
+      double[] eastings,
+      double[] northings,
+      int offset,
+      int length);
+
+  /**
+   * Converts the UTM points {@code offset} to {@code offset + length - 1} to lat/lon.
+   *
+   * @return the number of points converted, starting at 'offset'.
+   */
+  int toLatLon(
+      Ellipsoid ellipsoid,
+      int[] zoneNumbers,
+      NSIndicator[] nsIndicators,
+      double[] eastings,
+      double[] northings,
+      double[] lats,
+      double[] lons,
+      int offset,
+      int length);
+}
@@ -0,0 +1,324 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.NSIndicator;
+import org.codice.usng4j.ParseResult;
+import org.codice.usng4j.UsngCoordinate;
+
+/**
+ * Converts large coordinate arrays in parallel. Each input is split into chunks of at most {@code
+ * chunkSize} points that are converted by fork/join tasks with the batch methods of a {@link
+ * CoordinateSystemTranslator}, writing into preallocated output arrays. Every output element
+ * depends only on the input element at the same index, so results are identical for any pool size
+ * and chunk size.
+ *
+ * <p>When a conversion throws, the other chunks still complete and the exception of the lowest
+ * failing chunk is rethrown, so the exception does not depend on the pool size either.
+ */
+public final class BulkCoordinateTranslator {
+  /** The default number of points converted by a single fork/join task. */
+  public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+  private final CoordinateSystemTranslator translator;
+
+  private final ForkJoinPool pool;
+
+  private final int chunkSize;
+
+  /**
+   * @param translator the translator that converts each chunk; it must be safe to call from several
+   *     threads, as {@link CoordinateSystemTranslatorImpl} is.
+   * @param pool the pool that runs the conversion tasks.
+   * @param chunkSize the largest number of points converted by a single task.
+   * @throws IllegalArgumentException if an argument is null or 'chunkSize' is not positive.
+   */
+  public BulkCoordinateTranslator(
+      final CoordinateSystemTranslator translator, final ForkJoinPool pool, final int chunkSize) {
+    if (translator == null) {
+      throw new IllegalArgumentException("Translator cannot be null.");
+    }
+
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool cannot be null.");
+    }
+
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException(String.format("Invalid chunk size: %d", chunkSize));
+    }
+
+    this.translator = translator;
+    this.pool = pool;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * A convenience constructor that uses the common pool and {@link #DEFAULT_CHUNK_SIZE}.
+   *
+   * @param translator the translator that converts each chunk.
+   */
+  public BulkCoordinateTranslator(final CoordinateSystemTranslator translator) {
+    this(translator, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Converts lat/lon points to UTM in parallel. See {@link
+   * CoordinateSystemTranslator#toUtm(double[], double[], int[], double[], double[])}.
+   *
+   * @param lats the latitudes to be converted.
+   * @param lons the longitudes to be converted, same length as {@code lats}.
+   * @param zoneNumbers receives the UTM zone number of each point.
+   * @param eastings receives the easting of each point.
+   * @param northings receives the northing of each point.
+   * @throws IllegalArgumentException if the arrays are too short or if a coordinate is not valid
+   *     UTM.
+   */
+  public void toUtm(
+      final double[] lats,
+      final double[] lons,
+      final int[] zoneNumbers,
+      final double[] eastings,
+      final double[] northings) {
+    validateLength("lons", lons.length, lats.length);
+    validateLength("zoneNumbers", zoneNumbers.length, lats.length);
+    validateLength("eastings", eastings.length, lats.length);
+    validateLength("northings", northings.length, lats.length);
+    invoke(
+        lats.length,
+        (offset, length) ->
+            translator.toUtm(lats, lons, zoneNumbers, eastings, northings, offset, length));
+  }
+
+  /**
+   * Converts UTM points to lat/lon in parallel. See {@link
+   * CoordinateSystemTranslator#toLatLon(int[], NSIndicator[], double[], double[], double[],
+   * double[])}.
+   *
+   * @param zoneNumbers the UTM zone number of each point.
+   * @param nsIndicators the hemisphere of each point.
+   * @param eastings the easting of each point.
+   * @param northings the northing of each point.
+   * @param lats receives the latitude of each point.
+   * @param lons receives the longitude of each point.
+   * @throws IllegalArgumentException if the arrays are too short.
+   */
+  public void toLatLon(
+      final int[] zoneNumbers,
+      final NSIndicator[] nsIndicators,
+      final double[] eastings,
+      final double[] northings,
+      final double[] lats,
+      final double[] lons) {
+    validateLength("nsIndicators", nsIndicators.length, zoneNumbers.length);
+    validateLength("eastings", eastings.length, zoneNumbers.length);
+    validateLength("northings", northings.length, zoneNumbers.length);
+    validateLength("lats", lats.length, zoneNumbers.length);
+    validateLength("lons", lons.length, zoneNumbers.length);
+    invoke(
+        zoneNumbers.length,
+        (offset, length) ->
+            translator.toLatLon(
+                zoneNumbers, nsIndicators, eastings, northings, lats, lons, offset, length));
+  }
+
+  /**
+   * Converts lat/lon points to MGRS strings in parallel.
+   *
+   * @param lats the latitudes to be converted.
+   * @param lons the longitudes to be converted, same length as {@code lats}.
+   * @param precision the precision of the MGRS strings.
+   * @param mgrsStrings receives the MGRS string of each point.
+   * @throws IllegalArgumentException if the arrays are too short or if a coordinate is not valid
+   *     UTM.
+   */
+  public void toMgrsStrings(
+      final double[] lats,
+      final double[] lons,
+      final CoordinatePrecision precision,
+      final String[] mgrsStrings) {
+    validateLength("lons", lons.length, lats.length);
+    validateLength("mgrsStrings", mgrsStrings.length, lats.length);
+    invoke(
+        lats.length,
+        (offset, length) -> {
+          final char[] buffer = new char[32];
+
+          for (int i = offset; i < offset + length; i++) {
+            final int written = translator.writeMgrsString(lats[i], lons[i], precision, buffer, 0);
+            mgrsStrings[i] = new String(buffer, 0, written);
+          }
+        });
+  }
+
+  /**
+   * Parses MGRS strings and converts them to lat/lon in parallel. Strings that cannot be parsed or
+   * converted get {@link Double#NaN} as their latitude and longitude.
+   *
+   * @param mgrsStrings the MGRS strings to be converted.
+   * @param lats receives the latitude of each string.
+   * @param lons receives the longitude of each string.
+   * @return the number of strings that could not be converted.
+   * @throws IllegalArgumentException if the arrays are too short.
+   */
+  public int parseMgrsStrings(
+      final String[] mgrsStrings, final double[] lats, final double[] lons) {
+    validateLength("lats", lats.length, mgrsStrings.length);
+    validateLength("lons", lons.length, mgrsStrings.length);
+    final int[] failures = new int[chunkCount(mgrsStrings.length, chunkSize)];
+    invoke(
+        mgrsStrings.length,
+        (offset, length) -> {
+          int chunkFailures = 0;
+
+          for (int i = offset; i < offset + length; i++) {
+            final DecimalDegreesCoordinate latLon = parseMgrsString(mgrsStrings[i]);
+
+            if (latLon == null) {
+              lats[i] = Double.NaN;
+              lons[i] = Double.NaN;
+              chunkFailures++;
+            } else {
+              lats[i] = latLon.getLat();
+              lons[i] = latLon.getLon();
+            }
+          }
+
+          failures[offset / chunkSize] = chunkFailures;
+        });
+
+    int total = 0;
+
+    for (int chunkFailures : failures) {
+      total += chunkFailures;
+    }
+
+    return total;
+  }
+
+  private DecimalDegreesCoordinate parseMgrsString(final String mgrsString) {
+    if (mgrsString == null) {
+      return null;
+    }
+
+    final ParseResult<UsngCoordinate> result = translator.tryParseMgrsString(mgrsString);
+
+    if (!result.isSuccess()) {
+      return null;
+    }
+
+    try {
+      return translator.toLatLon(result.getValue());
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @param name the name of the array that is checked.
+   * @param arrayLength the length of the array.
+   * @param length the number of points that are converted.
+   */
+  private static void validateLength(final String name, final int arrayLength, final int length) {
+    if (arrayLength < length) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Array '%s' has length %d, shorter than the %d points to convert",
+              name, arrayLength, length));
+    }
+  }
+
+  /** @return the number of chunks of at most 'chunkSize' points that 'length' points make. */
+  private static int chunkCount(final int length, final int chunkSize) {
+    // (length + chunkSize - 1) / chunkSize overflows for chunk sizes near Integer.MAX_VALUE
+    return length / chunkSize + (length % chunkSize == 0 ? 0 : 1);
+  }
+
+  private void invoke(final int length, final ChunkConversion conversion) {
+    if (length == 0) {
+      return;
+    }
+
+    final ChunkTask task = new ChunkTask(conversion, chunkSize, 0, length);
+    pool.invoke(task);
+
+    if (task.failure != null) {
+      throw task.failure;
+    }
+  }
+
+  /** Converts the points {@code offset} to {@code offset + length - 1}. */
+  @FunctionalInterface
+  private interface ChunkConversion {
+    void convert(int offset, int length);
+  }
+
+  /**
+   * Splits its range in two until it is at most 'chunkSize' long. Chunks always start at a multiple
+   * of 'chunkSize' so that the split points do not depend on the pool.
+   */
+  private static final class ChunkTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final ChunkConversion conversion;
+
+    private final int chunkSize;
+
+    private final int offset;
+
+    private final int length;
+
+    private RuntimeException failure;
+
+    ChunkTask(
+        final ChunkConversion conversion, final int chunkSize, final int offset, final int length) {
+      this.conversion = conversion;
+      this.chunkSize = chunkSize;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    @Override
+    protected void compute() {
+      if (length <= chunkSize) {
+        try {
+          conversion.convert(offset, length);
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+        return;
+      }
+
+      final int chunks = chunkCount(length, chunkSize);
+      final int leftLength = chunks / 2 * chunkSize;
+      final ChunkTask left = new ChunkTask(conversion, chunkSize, offset, leftLength);
+      final ChunkTask right =
+          new ChunkTask(conversion, chunkSize, offset + leftLength, length - leftLength);
+      invokeAll(left, right);
+      failure = left.failure != null ? left.failure : right.failure;
+    }
+  }
+}
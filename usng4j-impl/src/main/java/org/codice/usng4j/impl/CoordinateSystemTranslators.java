@@ -0,0 +1,56 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+import org.codice.usng4j.CoordinateSystemTranslator;
+
+/**
+ * Shared {@link CoordinateSystemTranslator} instances. Translators are immutable and thread safe,
+ * so one instance per datum can serve every caller instead of being created per request.
+ */
+public final class CoordinateSystemTranslators {
+  private static final CoordinateSystemTranslator NAD83 =
+      new CoordinateSystemTranslatorImpl(Ellipsoid.GRS80);
+
+  private static final CoordinateSystemTranslator NAD27 =
+      new CoordinateSystemTranslatorImpl(Ellipsoid.CLARKE_1866);
+
+  private static final CoordinateSystemTranslator WGS84 =
+      new CoordinateSystemTranslatorImpl(Ellipsoid.WGS84);
+
+  private CoordinateSystemTranslators() {}
+
+  /** @return the shared translator for the North American Datum 1983 (GRS80 ellipsoid). */
+  public static CoordinateSystemTranslator nad83() {
+    return NAD83;
+  }
+
+  /** @return the shared translator for the North American Datum 1927 (Clarke 1866 ellipsoid). */
+  public static CoordinateSystemTranslator nad27() {
+    return NAD27;
+  }
+
+  /** @return the shared translator for the World Geodetic System 1984 (WGS84 ellipsoid). */
+  public static CoordinateSystemTranslator wgs84() {
+    return WGS84;
+  }
+}
@@ -0,0 +1,224 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * An immutable reference ellipsoid together with the Transverse Mercator series coefficients
+ * derived from it. The coefficients are computed once here so that the projection code does not
+ * recompute them for every point.
+ *
+ * @see TransverseMercatorSeries
+ */
+public final class Ellipsoid {
+  /** The GRS80 ellipsoid used by the North American Datum 1983. */
+  public static final Ellipsoid GRS80 = new Ellipsoid(6378137.0, 0.006694380023);
+
+  /** The Clarke 1866 ellipsoid used by the North American Datum 1927. */
+  public static final Ellipsoid CLARKE_1866 = new Ellipsoid(6378206.4, 0.006768658);
+
+  /** The World Geodetic System 1984 ellipsoid. */
+  public static final Ellipsoid WGS84 = fromInverseFlattening(6378137.0, 298.257223563);
+
+  private final double equatorialRadius;
+
+  private final double eccSquared;
+
+  final double ecc;
+
+  final double eccSquaredComplement;
+
+  final double eccPrimeSquared;
+
+  final double e1;
+
+  // coefficients of the meridian arc series used by the forward projection
+  final double meridianArc0;
+
+  final double meridianArc2;
+
+  final double meridianArc4;
+
+  final double meridianArc6;
+
+  // the rectifying radius and footprint latitude series used by the inverse projection
+  final double rectifyingRadius;
+
+  final double footprint2;
+
+  final double footprint4;
+
+  final double footprint6;
+
+  // the numerator of the meridional radius of curvature, a * (1 - e^2)
+  final double meridionalRadiusNumerator;
+
+  // the 6th order Krueger series in the third flattening, n, which is equal to e1, and the
+  // radius it is scaled by. alpha and beta are indexed from 1 to match the published series.
+  final double kruegerRadius;
+
+  final double[] alpha;
+
+  final double[] beta;
+
+  /**
+   * @param equatorialRadius the semi-major axis of the ellipsoid in meters.
+   * @param eccSquared the square of the first eccentricity of the ellipsoid.
+   * @throws IllegalArgumentException if 'equatorialRadius' is not a positive number or if
+   *     'eccSquared' is not in the range [0, 1).
+   */
+  public Ellipsoid(final double equatorialRadius, final double eccSquared) {
+    if (!(equatorialRadius > 0) || Double.isInfinite(equatorialRadius)) {
+      throw new IllegalArgumentException(
+          String.format("Invalid equatorial radius: %f", equatorialRadius));
+    }
+
+    if (!(eccSquared >= 0 && eccSquared < 1)) {
+      throw new IllegalArgumentException(
+          String.format("Invalid eccentricity squared: %f", eccSquared));
+    }
+
+    this.equatorialRadius = equatorialRadius;
+    this.eccSquared = eccSquared;
+    this.eccPrimeSquared = eccSquared / (1 - eccSquared);
+    this.e1 = (1 - Math.sqrt(1 - eccSquared)) / (1 + Math.sqrt(1 - eccSquared));
+
+    this.meridianArc0 =
+        1
+            - eccSquared / 4
+            - 3 * (eccSquared * eccSquared) / 64
+            - 5 * (eccSquared * eccSquared * eccSquared) / 256;
+    this.meridianArc2 =
+        3 * eccSquared / 8
+            + 3 * eccSquared * eccSquared / 32
+            + 45 * eccSquared * eccSquared * eccSquared / 1024;
+    this.meridianArc4 =
+        15 * eccSquared * eccSquared / 256 + 45 * eccSquared * eccSquared * eccSquared / 1024;
+    this.meridianArc6 = 35 * eccSquared * eccSquared * eccSquared / 3072;
+
+    this.rectifyingRadius =
+        equatorialRadius
+            * (1
+                - eccSquared / 4.0
+                - 3 * eccSquared * eccSquared / 64.0
+                - 5 * eccSquared * eccSquared * eccSquared / 256.0);
+    this.footprint2 = 3 * e1 / 2 - 27 * e1 * e1 * e1 / 32;
+    this.footprint4 = 21 * e1 * e1 / 16 - 55 * e1 * e1 * e1 * e1 / 32;
+    this.footprint6 = 151 * e1 * e1 * e1 / 96;
+
+    this.meridionalRadiusNumerator = equatorialRadius * (1 - eccSquared);
+
+    this.ecc = Math.sqrt(eccSquared);
+    this.eccSquaredComplement = 1 - eccSquared;
+
+    final double n = e1;
+    final double n2 = n * n;
+    final double n3 = n2 * n;
+    final double n4 = n3 * n;
+    final double n5 = n4 * n;
+    final double n6 = n5 * n;
+
+    this.kruegerRadius = equatorialRadius / (1 + n) * (1 + n2 / 4 + n4 / 64 + n6 / 256);
+
+    this.alpha =
+        new double[] {
+          0,
+          n / 2 - 2 * n2 / 3 + 5 * n3 / 16 + 41 * n4 / 180 - 127 * n5 / 288 + 7891 * n6 / 37800,
+          13 * n2 / 48 - 3 * n3 / 5 + 557 * n4 / 1440 + 281 * n5 / 630 - 1983433 * n6 / 1935360,
+          61 * n3 / 240 - 103 * n4 / 140 + 15061 * n5 / 26880 + 167603 * n6 / 181440,
+          49561 * n4 / 161280 - 179 * n5 / 168 + 6601661 * n6 / 7257600,
+          34729 * n5 / 80640 - 3418889 * n6 / 1995840,
+          212378941 * n6 / 319334400
+        };
+
+    this.beta =
+        new double[] {
+          0,
+          n / 2 - 2 * n2 / 3 + 37 * n3 / 96 - n4 / 360 - 81 * n5 / 512 + 96199 * n6 / 604800,
+          n2 / 48 + n3 / 15 - 437 * n4 / 1440 + 46 * n5 / 105 - 1118711 * n6 / 3870720,
+          17 * n3 / 480 - 37 * n4 / 840 - 209 * n5 / 4480 + 5569 * n6 / 90720,
+          4397 * n4 / 161280 - 11 * n5 / 504 - 830251 * n6 / 7257600,
+          4583 * n5 / 161280 - 108847 * n6 / 3991680,
+          20648693 * n6 / 638668800
+        };
+  }
+
+  /**
+   * @param equatorialRadius the semi-major axis of the ellipsoid in meters.
+   * @param inverseFlattening the inverse flattening, 1/f, of the ellipsoid.
+   * @return the ellipsoid with the given semi-major axis and flattening.
+   * @throws IllegalArgumentException if either value does not describe a valid ellipsoid.
+   */
+  public static Ellipsoid fromInverseFlattening(
+      final double equatorialRadius, final double inverseFlattening) {
+    if (!(inverseFlattening > 1)) {
+      throw new IllegalArgumentException(
+          String.format("Invalid inverse flattening: %f", inverseFlattening));
+    }
+
+    final double flattening = 1 / inverseFlattening;
+    return new Ellipsoid(equatorialRadius, flattening * (2 - flattening));
+  }
+
+  /** @return the semi-major axis of this ellipsoid in meters. */
+  public double getEquatorialRadius() {
+    return equatorialRadius;
+  }
+
+  /** @return the square of the first eccentricity of this ellipsoid. */
+  public double getEccSquared() {
+    return eccSquared;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("equatorialRadius", this.equatorialRadius)
+        .append("eccSquared", this.eccSquared)
+        .toString();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(final Object object) {
+    if (!(object instanceof Ellipsoid)) {
+      return false;
+    }
+
+    Ellipsoid other = (Ellipsoid) object;
+
+    return new EqualsBuilder()
+        .append(this.equatorialRadius, other.equatorialRadius)
+        .append(this.eccSquared, other.eccSquared)
+        .build();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder().append(this.equatorialRadius).append(this.eccSquared).build();
+  }
+}
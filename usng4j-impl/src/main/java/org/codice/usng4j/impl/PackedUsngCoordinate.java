@@ -0,0 +1,581 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+import java.text.ParseException;
+import java.util.stream.LongStream;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.UsngCoordinate;
+
+/**
+ * Packs a {@link UsngCoordinate} into a single {@code long} and back, so that large numbers of grid
+ * references can be kept in primitive arrays and off-heap maps and compared with {@code ==}.
+ *
+ * <p>From the most significant bit down, a packed coordinate holds 6 unused bits, the zone number
+ * (6 bits), the latitude band (5), the precision (3), the 100 km column (5) and row (5) letters,
+ * and the easting (17) and northing (17) digits. Parts finer than the precision are zero. Packed
+ * coordinates are always positive, so {@code 0} can be used to mark an empty slot.
+ */
+public final class PackedUsngCoordinate {
+  private static final String LATITUDE_BANDS = "CDEFGHJKLMNPQRSTUVWX";
+
+  private static final CoordinatePrecision[] PRECISIONS = CoordinatePrecision.values();
+
+  private static final int[] MAX_DIGIT_VALUES = {0, 0, 10, 100, 1_000, 10_000, 100_000};
+
+  private static final int DIGITS_BITS = 17;
+
+  private static final int LETTER_BITS = 5;
+
+  private static final int NORTHING_SHIFT = 0;
+
+  private static final int EASTING_SHIFT = NORTHING_SHIFT + DIGITS_BITS;
+
+  private static final int ROW_SHIFT = EASTING_SHIFT + DIGITS_BITS;
+
+  private static final int COLUMN_SHIFT = ROW_SHIFT + LETTER_BITS;
+
+  private static final int PRECISION_SHIFT = COLUMN_SHIFT + LETTER_BITS;
+
+  private static final int BAND_SHIFT = PRECISION_SHIFT + 3;
+
+  private static final int ZONE_SHIFT = BAND_SHIFT + 5;
+
+  private static final long DIGITS_MASK = (1L << DIGITS_BITS) - 1;
+
+  private static final long LETTER_MASK = (1L << LETTER_BITS) - 1;
+
+  // 'DDL LL DDDDD DDDDD'
+  private static final int MAX_USNG_STRING_LENGTH = 18;
+
+  private PackedUsngCoordinate() {}
+
+  /**
+   * @param usngCoordinate the coordinate to pack.
+   * @return the packed coordinate.
+   * @throws IllegalArgumentException if 'usngCoordinate' is not a valid USNG coordinate.
+   */
+  public static long pack(final UsngCoordinate usngCoordinate) {
+    final CoordinatePrecision precision = usngCoordinate.getPrecision();
+    final boolean hasGridSquare = precision != CoordinatePrecision.SIX_BY_EIGHT_DEGREES;
+    final boolean hasDigits = hasGridSquare && precision.getIntValue() > 0;
+
+    if (hasGridSquare
+        && (usngCoordinate.getColumnLetter() == null || usngCoordinate.getRowLetter() == null)) {
+      throw new IllegalArgumentException(
+          "Missing 100 km grid square letters at precision " + precision);
+    }
+
+    if (hasDigits
+        && (usngCoordinate.getEasting() == null || usngCoordinate.getNorthing() == null)) {
+      throw new IllegalArgumentException("Missing easting or northing at precision " + precision);
+    }
+
+    return pack(
+        usngCoordinate.getZoneNumber(),
+        usngCoordinate.getLatitudeBandLetter(),
+        hasGridSquare ? usngCoordinate.getColumnLetter() : 0,
+        hasGridSquare ? usngCoordinate.getRowLetter() : 0,
+        hasDigits ? usngCoordinate.getEasting() : 0,
+        hasDigits ? usngCoordinate.getNorthing() : 0,
+        precision);
+  }
+
+  /**
+   * @param zoneNumber the zone number, 1 to 60.
+   * @param latitudeBandLetter the latitude band letter, C to X.
+   * @param columnLetter the 100 km column letter, ignored at SIX_BY_EIGHT_DEGREES precision.
+   * @param rowLetter the 100 km row letter, ignored at SIX_BY_EIGHT_DEGREES precision.
+   * @param easting the easting digits, ignored at precisions without digits.
+   * @param northing the northing digits, ignored at precisions without digits.
+   * @param precision the precision of the coordinate.
+   * @return the packed coordinate.
+   * @throws IllegalArgumentException if the parts do not form a valid USNG coordinate.
+   */
+  public static long pack(
+      final int zoneNumber,
+      final char latitudeBandLetter,
+      final char columnLetter,
+      final char rowLetter,
+      final int easting,
+      final int northing,
+      final CoordinatePrecision precision) {
+    final int band = LATITUDE_BANDS.indexOf(latitudeBandLetter);
+
+    if (zoneNumber < 1 || zoneNumber > 60 || band < 0) {
+      throw new IllegalArgumentException(
+          String.format("Invalid zone %d%c", zoneNumber, latitudeBandLetter));
+    }
+
+    long packed =
+        ((long) zoneNumber << ZONE_SHIFT)
+            | ((long) band << BAND_SHIFT)
+            | ((long) precision.ordinal() << PRECISION_SHIFT);
+
+    if (precision == CoordinatePrecision.SIX_BY_EIGHT_DEGREES) {
+      return packed;
+    }
+
+    if (!isGridLetter(columnLetter, 'Z') || !isGridLetter(rowLetter, 'V')) {
+      throw new IllegalArgumentException(
+          String.format("Invalid 100 km grid square %c%c", columnLetter, rowLetter));
+    }
+
+    packed |=
+        ((long) (columnLetter - 'A') << COLUMN_SHIFT) | ((long) (rowLetter - 'A') << ROW_SHIFT);
+
+    final int maxDigitValue = MAX_DIGIT_VALUES[precision.ordinal()];
+
+    if (maxDigitValue == 0) {
+      return packed;
+    }
+
+    if (easting < 0 || easting >= maxDigitValue || northing < 0 || northing >= maxDigitValue) {
+      throw new IllegalArgumentException(
+          String.format("Invalid easting %d or northing %d at %s", easting, northing, precision));
+    }
+
+    return packed | ((long) easting << EASTING_SHIFT) | ((long) northing << NORTHING_SHIFT);
+  }
+
+  /**
+   * @param packed a packed coordinate.
+   * @return the coordinate.
+   * @throws IllegalArgumentException if 'packed' is not a packed coordinate.
+   */
+  public static UsngCoordinate unpack(final long packed) {
+    validate(packed);
+
+    final int zoneNumber = getZoneNumber(packed);
+    final char latitudeBandLetter = getLatitudeBandLetter(packed);
+    final CoordinatePrecision precision = getPrecision(packed);
+
+    if (precision == CoordinatePrecision.SIX_BY_EIGHT_DEGREES) {
+      return UsngCellPool.gridZone(zoneNumber, latitudeBandLetter);
+    }
+
+    if (precision == CoordinatePrecision.ONE_HUNDRED_KILOMETERS) {
+      return UsngCellPool.gridSquare(
+          zoneNumber, latitudeBandLetter, getColumnLetter(packed), getRowLetter(packed));
+    }
+
+    return new UsngCoordinateImpl(
+        zoneNumber,
+        latitudeBandLetter,
+        getColumnLetter(packed),
+        getRowLetter(packed),
+        getEasting(packed),
+        getNorthing(packed),
+        precision);
+  }
+
+  /** @return the zone number of a packed coordinate. */
+  public static int getZoneNumber(final long packed) {
+    return (int) (packed >>> ZONE_SHIFT) & 0x3F;
+  }
+
+  /** @return the latitude band letter of a packed coordinate. */
+  public static char getLatitudeBandLetter(final long packed) {
+    return LATITUDE_BANDS.charAt(getLatitudeBandIndex(packed));
+  }
+
+  /** @return the index of the latitude band of a packed coordinate, 0 for C to 19 for X. */
+  static int getLatitudeBandIndex(final long packed) {
+    return (int) (packed >>> BAND_SHIFT) & 0x1F;
+  }
+
+  /** @return the precision of a packed coordinate. */
+  public static CoordinatePrecision getPrecision(final long packed) {
+    return PRECISIONS[(int) (packed >>> PRECISION_SHIFT) & 0x7];
+  }
+
+  /** @return the 100 km column letter of a packed coordinate, or 0 if it has none. */
+  public static char getColumnLetter(final long packed) {
+    return hasGridSquare(packed) ? (char) ('A' + ((packed >>> COLUMN_SHIFT) & LETTER_MASK)) : 0;
+  }
+
+  /** @return the 100 km row letter of a packed coordinate, or 0 if it has none. */
+  public static char getRowLetter(final long packed) {
+    return hasGridSquare(packed) ? (char) ('A' + ((packed >>> ROW_SHIFT) & LETTER_MASK)) : 0;
+  }
+
+  /** @return the easting digits of a packed coordinate; 0 if it has none. */
+  public static int getEasting(final long packed) {
+    return (int) ((packed >>> EASTING_SHIFT) & DIGITS_MASK);
+  }
+
+  /** @return the northing digits of a packed coordinate; 0 if it has none. */
+  public static int getNorthing(final long packed) {
+    return (int) ((packed >>> NORTHING_SHIFT) & DIGITS_MASK);
+  }
+
+  /**
+   * Converts a lat/lon coordinate like {@link CoordinateSystemTranslator#toUsng(
+   * DecimalDegreesCoordinate, CoordinatePrecision)} and packs the result. With the translators of
+   * this package no objects are created.
+   *
+   * @param translator the translator for the datum of the coordinate.
+   * @param lat the latitude of the coordinate.
+   * @param lon the longitude of the coordinate.
+   * @param precision the requested precision.
+   * @return the packed coordinate.
+   * @throws IllegalArgumentException if the coordinate is not valid UTM.
+   */
+  public static long fromLatLon(
+      final CoordinateSystemTranslator translator,
+      final double lat,
+      final double lon,
+      final CoordinatePrecision precision) {
+    if (translator instanceof CoordinateSystemTranslatorImpl) {
+      return ((CoordinateSystemTranslatorImpl) translator).packUsng(lat, lon, precision);
+    }
+
+    return pack(translator.toUsng(new DecimalDegreesCoordinateImpl(lat, lon), precision));
+  }
+
+  /**
+   * @param translator the translator for the datum of the coordinate.
+   * @param packed a packed coordinate.
+   * @return the lat/lon of the coordinate, as {@link
+   *     CoordinateSystemTranslator#toLatLon(UsngCoordinate)} converts it.
+   * @throws IllegalArgumentException if 'packed' is not a packed coordinate.
+   */
+  public static DecimalDegreesCoordinate toLatLon(
+      final CoordinateSystemTranslator translator, final long packed) {
+    return translator.toLatLon(unpack(packed));
+  }
+
+  /**
+   * Packs the parts of a coordinate like {@link #pack(int, char, char, char, int, int,
+   * CoordinatePrecision)}, with the latitude band given by its index.
+   */
+  static long pack(
+      final int zoneNumber,
+      final int latitudeBandIndex,
+      final char columnLetter,
+      final char rowLetter,
+      final int easting,
+      final int northing,
+      final CoordinatePrecision precision) {
+    if (latitudeBandIndex < 0 || latitudeBandIndex >= LATITUDE_BANDS.length()) {
+      throw new IllegalArgumentException("Invalid latitude band index " + latitudeBandIndex);
+    }
+
+    return pack(
+        zoneNumber,
+        LATITUDE_BANDS.charAt(latitudeBandIndex),
+        columnLetter,
+        rowLetter,
+        easting,
+        northing,
+        precision);
+  }
+
+  /**
+   * Converts a lat/lon coordinate at every precision, projecting it only once. The results are the
+   * same as {@link #fromLatLon(CoordinateSystemTranslator, double, double, CoordinatePrecision)} at
+   * each precision. With the translators of this package no objects are created.
+   *
+   * @param translator the translator for the datum of the coordinate.
+   * @param lat the latitude of the coordinate.
+   * @param lon the longitude of the coordinate.
+   * @param destination the array to write the packed coordinates into, in {@link
+   *     CoordinatePrecision} order from SIX_BY_EIGHT_DEGREES to ONE_METER.
+   * @param offset the index in 'destination' of the SIX_BY_EIGHT_DEGREES coordinate.
+   * @throws IllegalArgumentException if the coordinate is not valid UTM.
+   */
+  public static void fromLatLonAtEveryPrecision(
+      final CoordinateSystemTranslator translator,
+      final double lat,
+      final double lon,
+      final long[] destination,
+      final int offset) {
+    if (offset < 0 || offset > destination.length - PRECISIONS.length) {
+      throw new IndexOutOfBoundsException(
+          String.format(
+              "%d coordinates at offset %d do not fit in %d",
+              PRECISIONS.length, offset, destination.length));
+    }
+
+    final long oneMeter = fromLatLon(translator, lat, lon, CoordinatePrecision.ONE_METER);
+
+    for (CoordinatePrecision precision : PRECISIONS) {
+      destination[offset + precision.ordinal()] = truncate(oneMeter, precision);
+    }
+  }
+
+  /**
+   * Derives the cell at a coarser precision that contains a packed coordinate, from its grid fields
+   * alone. The result is the same as converting the coordinate's position at 'precision'.
+   *
+   * @param packed a packed coordinate.
+   * @param precision the precision of the parent cell, no finer than the coordinate's.
+   * @return the packed parent cell; 'packed' itself at the coordinate's own precision.
+   * @throws IllegalArgumentException if 'packed' is not a packed coordinate or 'precision' is finer
+   *     than the coordinate's.
+   */
+  public static long toParent(final long packed, final CoordinatePrecision precision) {
+    validate(packed);
+    return truncate(packed, precision);
+  }
+
+  /**
+   * Lazily enumerates the cells at a finer precision within a packed coordinate's cell, from its
+   * grid fields alone, south to north and west to east. Every cell of a 100 km square is produced,
+   * even where the square is cut by the edge of its grid zone. The 100 km squares of a grid zone
+   * depend on the datum, so they are enumerated by {@link
+   * CoordinateSystemTranslatorImpl#toPackedUsngChildren(long, CoordinatePrecision)} instead.
+   *
+   * @param packed a packed coordinate, finer than SIX_BY_EIGHT_DEGREES.
+   * @param precision the precision of the children, no coarser than the coordinate's.
+   * @return the packed children; only 'packed' itself at the coordinate's own precision.
+   * @throws IllegalArgumentException if 'packed' is not a packed coordinate finer than
+   *     SIX_BY_EIGHT_DEGREES, or 'precision' is coarser than the coordinate's.
+   */
+  public static LongStream toChildren(final long packed, final CoordinatePrecision precision) {
+    validate(packed);
+    final CoordinatePrecision parentPrecision = getPrecision(packed);
+
+    if (precision.ordinal() < parentPrecision.ordinal()) {
+      throw new IllegalArgumentException(
+          String.format("%s is coarser than %s", precision, parentPrecision));
+    } else if (precision == parentPrecision) {
+      return LongStream.of(packed);
+    } else if (parentPrecision == CoordinatePrecision.SIX_BY_EIGHT_DEGREES) {
+      throw new IllegalArgumentException(
+          "The 100 km squares of a grid zone can only be enumerated by a translator");
+    }
+
+    final long gridSquare =
+        (packed & -(1L << BAND_SHIFT))
+            | ((long) precision.ordinal() << PRECISION_SHIFT)
+            | (packed & (((1L << (2 * LETTER_BITS)) - 1) << ROW_SHIFT));
+    final int factor =
+        MAX_DIGIT_VALUES[precision.ordinal()]
+            / Math.max(1, MAX_DIGIT_VALUES[parentPrecision.ordinal()]);
+    final long firstEasting = (long) getEasting(packed) * factor;
+    final long firstNorthing = (long) getNorthing(packed) * factor;
+
+    return LongStream.range(0, (long) factor * factor)
+        .map(
+            i ->
+                gridSquare
+                    | ((firstEasting + i % factor) << EASTING_SHIFT)
+                    | ((firstNorthing + i / factor) << NORTHING_SHIFT));
+  }
+
+  /**
+   * Drops the parts of a packed coordinate that are finer than 'precision'. The digits are
+   * truncated, which gives the same coordinate as converting at 'precision' in the first place.
+   *
+   * @throws IllegalArgumentException if 'precision' is finer than the coordinate's.
+   */
+  static long truncate(final long packed, final CoordinatePrecision precision) {
+    final int fromOrdinal = (int) (packed >>> PRECISION_SHIFT) & 0x7;
+    final int toOrdinal = precision.ordinal();
+
+    if (toOrdinal > fromOrdinal) {
+      throw new IllegalArgumentException(
+          String.format("%s is finer than %s", precision, PRECISIONS[fromOrdinal]));
+    }
+
+    final long zoneAndBand = packed & -(1L << BAND_SHIFT);
+    final long truncated = zoneAndBand | ((long) toOrdinal << PRECISION_SHIFT);
+
+    if (precision == CoordinatePrecision.SIX_BY_EIGHT_DEGREES) {
+      return truncated;
+    }
+
+    final long letters = packed & (((1L << (2 * LETTER_BITS)) - 1) << ROW_SHIFT);
+    final int maxDigitValue = MAX_DIGIT_VALUES[toOrdinal];
+
+    if (maxDigitValue == 0) {
+      return truncated | letters;
+    }
+
+    final int divisor = MAX_DIGIT_VALUES[fromOrdinal] / maxDigitValue;
+    return truncated
+        | letters
+        | ((long) (getEasting(packed) / divisor) << EASTING_SHIFT)
+        | ((long) (getNorthing(packed) / divisor) << NORTHING_SHIFT);
+  }
+
+  /**
+   * @param mgrsString an MGRS string.
+   * @return the packed coordinate.
+   * @throws ParseException when 'mgrsString' isn't in MGRS format.
+   */
+  public static long parseMgrsString(final String mgrsString) throws ParseException {
+    return pack(UsngCoordinateImpl.parseMgrsString(mgrsString));
+  }
+
+  /**
+   * @param packed a packed coordinate.
+   * @return the MGRS string of the coordinate, the same as {@link UsngCoordinate#toMgrsString()}.
+   * @throws IllegalArgumentException if 'packed' is not a packed coordinate.
+   */
+  public static String toMgrsString(final long packed) {
+    final char[] chars = new char[MAX_USNG_STRING_LENGTH];
+    return new String(chars, 0, writeMgrsString(packed, chars, 0));
+  }
+
+  /**
+   * Writes the MGRS string of a packed coordinate without creating any objects; at most 15
+   * characters are written.
+   *
+   * @param packed a packed coordinate.
+   * @param destination the array to write the string into.
+   * @param offset the index in 'destination' of the first character.
+   * @return the number of characters written.
+   * @throws IllegalArgumentException if 'packed' is not a packed coordinate, or if the string does
+   *     not fit in 'destination' at 'offset'; nothing is written then.
+   */
+  public static int writeMgrsString(final long packed, final char[] destination, final int offset) {
+    validate(packed);
+    checkCapacity(length(packed, false), destination, offset);
+    return write(packed, false, destination, offset);
+  }
+
+  /**
+   * @param length the number of characters to be written.
+   * @param destination the array to write them into.
+   * @param offset the index in 'destination' of the first character.
+   * @throws IllegalArgumentException if the characters do not fit in 'destination' at 'offset'.
+   */
+  static void checkCapacity(final int length, final char[] destination, final int offset) {
+    if (offset < 0 || offset > destination.length - length) {
+      throw new IllegalArgumentException(
+          String.format(
+              "%d characters at offset %d need an array of length %d, got %d",
+              length, offset, (long) offset + length, destination.length));
+    }
+  }
+
+  /** @return the number of characters {@link #write} writes for a valid packed coordinate. */
+  static int length(final long packed, final boolean includeSpaces) {
+    final CoordinatePrecision precision = getPrecision(packed);
+    final int zone = getZoneNumber(packed) >= 10 ? 3 : 2;
+
+    if (precision == CoordinatePrecision.SIX_BY_EIGHT_DEGREES) {
+      return zone;
+    }
+
+    final int digits = Math.max(0, precision.getIntValue());
+    final int spaces = includeSpaces ? (digits > 0 ? 3 : 1) : 0;
+    return zone + 2 + 2 * digits + spaces;
+  }
+
+  /**
+   * Writes the USNG (with spaces) or MGRS string of a valid packed coordinate.
+   *
+   * @return the number of characters written.
+   */
+  static int write(
+      final long packed, final boolean includeSpaces, final char[] destination, final int offset) {
+    final int zoneNumber = getZoneNumber(packed);
+    final CoordinatePrecision precision = getPrecision(packed);
+    int index = offset;
+
+    if (zoneNumber >= 10) {
+      destination[index++] = (char) ('0' + zoneNumber / 10);
+    }
+
+    destination[index++] = (char) ('0' + zoneNumber % 10);
+    destination[index++] = getLatitudeBandLetter(packed);
+
+    if (precision == CoordinatePrecision.SIX_BY_EIGHT_DEGREES) {
+      return index - offset;
+    }
+
+    if (includeSpaces) {
+      destination[index++] = ' ';
+    }
+
+    destination[index++] = getColumnLetter(packed);
+    destination[index++] = getRowLetter(packed);
+
+    if (precision.getIntValue() < 1) {
+      return index - offset;
+    }
+
+    if (includeSpaces) {
+      destination[index++] = ' ';
+    }
+
+    index += precision.formatTo(destination, index, getEasting(packed));
+
+    if (includeSpaces) {
+      destination[index++] = ' ';
+    }
+
+    index += precision.formatTo(destination, index, getNorthing(packed));
+    return index - offset;
+  }
+
+  private static boolean hasGridSquare(final long packed) {
+    return getPrecision(packed) != CoordinatePrecision.SIX_BY_EIGHT_DEGREES;
+  }
+
+  /**
+   * @param packed a packed coordinate.
+   * @return the precision of 'packed', which is validated first. Unlike {@link #unpack(long)}{@code
+   *     .getPrecision()} this creates no objects.
+   * @throws IllegalArgumentException if 'packed' is not a packed coordinate.
+   */
+  static CoordinatePrecision precisionOf(final long packed) {
+    validate(packed);
+    return getPrecision(packed);
+  }
+
+  /**
+   * @param packed a packed coordinate.
+   * @throws IllegalArgumentException if 'packed' is not a packed coordinate.
+   */
+  static void validate(final long packed) {
+    final int precision = (int) (packed >>> PRECISION_SHIFT) & 0x7;
+    final int zoneNumber = getZoneNumber(packed);
+    final boolean valid =
+        packed >>> (ZONE_SHIFT + 6) == 0
+            && zoneNumber >= 1
+            && zoneNumber <= 60
+            && ((packed >>> BAND_SHIFT) & 0x1F) < LATITUDE_BANDS.length()
+            && precision < PRECISIONS.length
+            && (precision == 0
+                ? (packed & ((1L << PRECISION_SHIFT) - 1)) == 0
+                : isGridLetter(getColumnLetter(packed), 'Z')
+                    && isGridLetter(getRowLetter(packed), 'V')
+                    && getEasting(packed) < Math.max(1, MAX_DIGIT_VALUES[precision])
+                    && getNorthing(packed) < Math.max(1, MAX_DIGIT_VALUES[precision]));
+
+    if (!valid) {
+      throw new IllegalArgumentException(
+          "Not a packed USNG coordinate: 0x" + Long.toHexString(packed));
+    }
+  }
+
+  // [A-HJ-NP-Z] for columns and [A-HJ-NP-V] for rows
+  private static boolean isGridLetter(final char c, final char last) {
+    return c >= 'A' && c <= last && c != 'I' && c != 'O';
+  }
+}
@@ -0,0 +1,88 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+import org.codice.usng4j.ParseErrorCode;
+import org.codice.usng4j.ParseResult;
+
+final class ParseResultImpl<T> implements ParseResult<T> {
+
+  private final T value;
+
+  private final ParseErrorCode errorCode;
+
+  private final int errorOffset;
+
+  private ParseResultImpl(final T value, final ParseErrorCode errorCode, final int errorOffset) {
+    this.value = value;
+    this.errorCode = errorCode;
+    this.errorOffset = errorOffset;
+  }
+
+  /**
+   * @param value the parsed coordinate.
+   * @return a successful result holding 'value'.
+   */
+  static <T> ParseResult<T> success(final T value) {
+    return new ParseResultImpl<>(value, null, -1);
+  }
+
+  /**
+   * @param errorCode the reason parsing failed.
+   * @param errorOffset the offset into the string at which parsing failed.
+   * @return an unsuccessful result.
+   */
+  static <T> ParseResult<T> failure(final ParseErrorCode errorCode, final int errorOffset) {
+    return new ParseResultImpl<>(null, errorCode, errorOffset);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isSuccess() {
+    return errorCode == null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public T getValue() {
+    return value;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ParseErrorCode getErrorCode() {
+    return errorCode;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getErrorOffset() {
+    return errorOffset;
+  }
+
+  @Override
+  public String toString() {
+    return isSuccess()
+        ? String.valueOf(value)
+        : String.format("%s at offset %d", errorCode, errorOffset);
+  }
+}
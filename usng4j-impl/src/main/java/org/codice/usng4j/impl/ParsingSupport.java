@@ -0,0 +1,106 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+/**
+ * Character classes and scanning helpers shared by the coordinate string parsers. The classes match
+ * their {@link java.util.regex.Pattern} counterparts, which are ASCII only.
+ */
+final class ParsingSupport {
+
+  private ParsingSupport() {}
+
+  /** @return true if 'c' matches {@code \d}. */
+  static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  /** @return true if 'c' matches {@code \s}. */
+  static boolean isWhitespace(final char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  /** @return true if 'c' matches {@code \w}. */
+  static boolean isWordCharacter(final char c) {
+    return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+  }
+
+  /** @return true if 'c' is an ASCII letter. */
+  static boolean isLetter(final char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  /** @return the value of the digit at 'index', or -1 if there is no digit at 'index'. */
+  static int digitAt(final CharSequence string, final int index) {
+    if (index >= string.length() || !isDigit(string.charAt(index))) {
+      return -1;
+    }
+
+    return string.charAt(index) - '0';
+  }
+
+  /** @return the ASCII upper case character at 'index', or 0 if 'index' is past the end. */
+  static char upperCaseAt(final CharSequence string, final int index) {
+    if (index >= string.length()) {
+      return 0;
+    }
+
+    final char c = string.charAt(index);
+    return c >= 'a' && c <= 'z' ? (char) (c - 'a' + 'A') : c;
+  }
+
+  /** @return the index of the first character at or after 'index' that isn't whitespace. */
+  static int skipWhitespace(final CharSequence string, int index) {
+    while (index < string.length() && isWhitespace(string.charAt(index))) {
+      index++;
+    }
+
+    return index;
+  }
+
+  /** @return the index of the first character at or after 'index' that isn't a digit. */
+  static int skipDigits(final CharSequence string, int index) {
+    while (index < string.length() && isDigit(string.charAt(index))) {
+      index++;
+    }
+
+    return index;
+  }
+
+  /**
+   * @return the value of the digits from 'start' (inclusive) to 'end' (exclusive), 0 if there are
+   *     none, or -1 if the value does not fit in an int.
+   */
+  static int parseDigits(final CharSequence string, final int start, final int end) {
+    long value = 0;
+
+    for (int i = start; i < end; i++) {
+      value = value * 10 + (string.charAt(i) - '0');
+
+      if (value > Integer.MAX_VALUE) {
+        return -1;
+      }
+    }
+
+    return (int) value;
+  }
+}
@@ -0,0 +1,41 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+/**
+ * The series used by {@link CoordinateSystemTranslatorImpl} to evaluate the Transverse Mercator
+ * projection for UTM and USNG conversions.
+ */
+public enum TransverseMercatorSeries {
+  /**
+   * The series in powers of the eccentricity from Snyder's "Map Projections - A Working Manual". It
+   * is accurate to about a millimeter near the central meridian and degrades toward the edge of a
+   * zone.
+   */
+  SNYDER,
+
+  /**
+   * The 6th order Krueger series in powers of the third flattening, as used by GeographicLib. It is
+   * accurate to a few nanometers within a UTM zone.
+   */
+  KRUEGER
+}
@@ -0,0 +1,367 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import org.codice.usng4j.BoundingBox;
+import org.codice.usng4j.CoordinatePrecision;
+
+/**
+ * Lazily enumerates the packed USNG cells that intersect a bounding box, one grid zone at a time.
+ * Within a grid zone the box is projected into the zone's UTM plane as a polygon, and the cells are
+ * walked row by row, each row spanning the polygon's easting extent within it. Only the current
+ * grid zone's polygon is held in memory.
+ *
+ * <p>Cells are produced in order of latitude band, zone, row (south to north) and column (west to
+ * east). The cover is conservative: a cell within a centimeter of the box may be included.
+ */
+final class UsngCellCover implements PrimitiveIterator.OfLong {
+  private static final String LATITUDE_BANDS = "CDEFGHJKLMNPQRSTUVWX";
+
+  private static final int BAND_V = LATITUDE_BANDS.indexOf('V');
+
+  private static final int BAND_X = LATITUDE_BANDS.indexOf('X');
+
+  private static final int FIRST_NORTHERN_BAND = LATITUDE_BANDS.indexOf('N');
+
+  // the box edges are sampled at least this often, which keeps the polygon within a few
+  // millimeters of the curved edges
+  private static final double SAMPLE_DEGREES = 0.005;
+
+  // cells this close to the polygon are included, which absorbs the remaining approximation
+  private static final double PADDING = 0.01;
+
+  // the projection wraps longitude 180 to -180, as well as anything that rounds to 360 once 180 is
+  // added to it
+  private static final double MAX_LONGITUDE = 180 - 1e-9;
+
+  private final CoordinateSystemTranslatorImpl translator;
+
+  private final CoordinatePrecision precision;
+
+  private final double cellSize;
+
+  private final double south;
+
+  private final double north;
+
+  /** West and east pairs; boxes crossing the antimeridian have two. */
+  private final double[] longitudeRanges;
+
+  private int band;
+
+  private int zoneNumber;
+
+  private double[] xs = new double[64];
+
+  private double[] ys = new double[64];
+
+  private int vertexCount;
+
+  private long row;
+
+  private long lastRow;
+
+  private long column;
+
+  private long lastColumn;
+
+  private boolean hasNextCell;
+
+  private long nextCell;
+
+  /**
+   * @param boundingBox the box to cover. A box whose west is greater than its east crosses the
+   *     antimeridian. Latitudes outside of the USNG range of 80S to 84N are ignored.
+   * @param precision the precision of the cells.
+   */
+  UsngCellCover(
+      final CoordinateSystemTranslatorImpl translator,
+      final BoundingBox boundingBox,
+      final CoordinatePrecision precision) {
+    this.translator = translator;
+    this.precision = precision;
+    this.cellSize = 100_000 / Math.pow(10, Math.max(0, precision.getIntValue()));
+    this.south = Math.max(-80, boundingBox.getSouth());
+    this.north = Math.min(84, boundingBox.getNorth());
+
+    final double west = Math.max(-180, boundingBox.getWest());
+    final double east = Math.min(180, boundingBox.getEast());
+
+    if (boundingBox.getSouth() > boundingBox.getNorth()
+        || Double.isNaN(south)
+        || Double.isNaN(north)
+        || Double.isNaN(west)
+        || Double.isNaN(east)) {
+      throw new IllegalArgumentException(boundingBox + " is invalid");
+    }
+
+    if (west > east) {
+      this.longitudeRanges = new double[] {west, 180, -180, east};
+    } else if (east == 180) {
+      // longitude 180 lies in zone 1, as -180
+      this.longitudeRanges = new double[] {west, east, -180, -180};
+    } else {
+      this.longitudeRanges = new double[] {west, east};
+    }
+
+    this.band = -1;
+    this.zoneNumber = 60;
+    this.lastRow = -1;
+    this.lastColumn = -1;
+    this.hasNextCell = south <= north && advance();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return hasNextCell;
+  }
+
+  @Override
+  public long nextLong() {
+    if (!hasNextCell) {
+      throw new NoSuchElementException();
+    }
+
+    final long cell = nextCell;
+    hasNextCell = advance();
+    return cell;
+  }
+
+  /** Finds the next cell, moving on to the next row or grid zone as needed. */
+  private boolean advance() {
+    while (true) {
+      if (column <= lastColumn) {
+        nextCell =
+            translator.packUsng(
+                zoneNumber,
+                LATITUDE_BANDS.charAt(band),
+                column * cellSize,
+                row * cellSize,
+                precision);
+        column++;
+        return true;
+      }
+
+      if (row < lastRow) {
+        row++;
+        startRow();
+      } else if (!nextGridZone()) {
+        return false;
+      } else if (precision == CoordinatePrecision.SIX_BY_EIGHT_DEGREES) {
+        nextCell =
+            PackedUsngCoordinate.pack(
+                zoneNumber, LATITUDE_BANDS.charAt(band), (char) 0, (char) 0, 0, 0, precision);
+        return true;
+      } else {
+        startGridZone();
+      }
+    }
+  }
+
+  /** Moves to the next grid zone that intersects the box and sets up its first row. */
+  private boolean nextGridZone() {
+    while (true) {
+      if (zoneNumber < 60) {
+        zoneNumber++;
+      } else if (band < BAND_X) {
+        band++;
+        zoneNumber = 1;
+      } else {
+        return false;
+      }
+
+      if (intersectsGridZone()) {
+        return true;
+      }
+    }
+  }
+
+  /** @return the south edge of a latitude band, given by its index. */
+  static double bandSouth(final int band) {
+    return -80 + 8 * band;
+  }
+
+  /** @return the north edge of a latitude band, given by its index. */
+  static double bandNorth(final int band) {
+    return band == BAND_X ? 84 : bandSouth(band) + 8;
+  }
+
+  /**
+   * @return the west edge of a grid zone, given by its latitude band index and zone number, or NaN
+   *     if the grid zone does not exist.
+   */
+  static double zoneWest(final int band, final int zoneNumber) {
+    final double west = -180 + 6 * (zoneNumber - 1);
+
+    if (band == BAND_V && zoneNumber == 32) {
+      return 3;
+    } else if (band == BAND_X && zoneNumber >= 31 && zoneNumber <= 37) {
+      return zoneNumber % 2 == 0 ? Double.NaN : zoneNumber == 31 ? 0 : west - 3;
+    }
+
+    return west;
+  }
+
+  /** @return the east edge of a grid zone, given by its latitude band index and zone number. */
+  static double zoneEast(final int band, final int zoneNumber) {
+    final double east = -180 + 6 * zoneNumber;
+
+    if (band == BAND_V && zoneNumber == 31) {
+      return 3;
+    } else if (band == BAND_X && zoneNumber >= 31 && zoneNumber <= 37) {
+      return zoneNumber == 37 ? 42 : east + 3;
+    }
+
+    return east;
+  }
+
+  private boolean intersectsGridZone() {
+    final double bandSouth = bandSouth(band);
+    final double bandNorth = bandNorth(band);
+
+    // bands include their south edge; X also includes its north edge
+    if (north < bandSouth || south > bandNorth || (south == bandNorth && band != BAND_X)) {
+      return false;
+    }
+
+    final double zoneWest = zoneWest(band, zoneNumber);
+    final double zoneEast = zoneEast(band, zoneNumber);
+
+    for (int i = 0; i < longitudeRanges.length; i += 2) {
+      // zones include their west edge
+      if (longitudeRanges[i] < zoneEast && longitudeRanges[i + 1] >= zoneWest) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /** Projects the part of the box within the current grid zone and sets up its first row. */
+  private void startGridZone() {
+    final double zoneWest = zoneWest(band, zoneNumber);
+    final double zoneEast = zoneEast(band, zoneNumber);
+    double west = Double.POSITIVE_INFINITY;
+    double east = Double.NEGATIVE_INFINITY;
+
+    for (int i = 0; i < longitudeRanges.length; i += 2) {
+      if (longitudeRanges[i] < zoneEast && longitudeRanges[i + 1] >= zoneWest) {
+        west = Math.min(west, Math.max(zoneWest, longitudeRanges[i]));
+        east = Math.max(east, Math.min(zoneEast, longitudeRanges[i + 1]));
+      }
+    }
+
+    final double s = Math.max(south, bandSouth(band));
+    final double n = Math.min(north, bandNorth(band));
+
+    vertexCount = 0;
+    addEdge(s, west, s, east);
+    addEdge(s, east, n, east);
+    addEdge(n, east, n, west);
+    addEdge(n, west, s, west);
+
+    double minY = Double.POSITIVE_INFINITY;
+    double maxY = Double.NEGATIVE_INFINITY;
+
+    for (int i = 0; i < vertexCount; i++) {
+      minY = Math.min(minY, ys[i]);
+      maxY = Math.max(maxY, ys[i]);
+    }
+
+    // eastings and northings are never negative
+    row = Math.max(0, (long) Math.floor((minY - PADDING) / cellSize));
+    lastRow = (long) Math.floor((maxY + PADDING) / cellSize);
+    startRow();
+  }
+
+  /** Adds samples of an edge, excluding its end, to the polygon. */
+  private void addEdge(final double lat0, final double lon0, final double lat1, final double lon1) {
+    final int samples =
+        Math.max(
+            1,
+            (int)
+                Math.ceil(Math.max(Math.abs(lat1 - lat0), Math.abs(lon1 - lon0)) / SAMPLE_DEGREES));
+
+    if (vertexCount + samples > xs.length) {
+      final int capacity = Math.max(xs.length * 2, vertexCount + samples);
+      xs = Arrays.copyOf(xs, capacity);
+      ys = Arrays.copyOf(ys, capacity);
+    }
+
+    final double falseNorthing =
+        band < FIRST_NORTHERN_BAND ? CoordinateSystemTranslatorImpl.NORTHING_OFFSET : 0;
+
+    for (int i = 0; i < samples; i++) {
+      final double lat = lat0 + (lat1 - lat0) * i / samples;
+      final double lon = Math.min(MAX_LONGITUDE, lon0 + (lon1 - lon0) * i / samples);
+      final UtmCoordinateImpl utmCoordinate = translator.projectToUtm(lat, lon, zoneNumber);
+      // USNG digits are taken from the easting and northing rounded to the meter
+      xs[vertexCount] = utmCoordinate.getEasting() + 0.5;
+      ys[vertexCount] = utmCoordinate.getNorthing() + falseNorthing + 0.5;
+      vertexCount++;
+    }
+  }
+
+  /** Sets the columns of the current row to the polygon's easting extent within it. */
+  private void startRow() {
+    final double bottom = row * cellSize - PADDING;
+    final double top = (row + 1) * cellSize + PADDING;
+    double minX = Double.POSITIVE_INFINITY;
+    double maxX = Double.NEGATIVE_INFINITY;
+
+    for (int i = 0; i < vertexCount; i++) {
+      final int j = i + 1 == vertexCount ? 0 : i + 1;
+      final double x0 = xs[i];
+      final double y0 = ys[i];
+      final double x1 = xs[j];
+      final double y1 = ys[j];
+
+      if (Math.max(y0, y1) < bottom || Math.min(y0, y1) > top) {
+        continue;
+      }
+
+      // clip the edge to the row
+      if (y0 == y1) {
+        minX = Math.min(minX, Math.min(x0, x1));
+        maxX = Math.max(maxX, Math.max(x0, x1));
+      } else {
+        final double t0 = Math.max(0, Math.min(1, (bottom - y0) / (y1 - y0)));
+        final double t1 = Math.max(0, Math.min(1, (top - y0) / (y1 - y0)));
+        final double xa = x0 + (x1 - x0) * t0;
+        final double xb = x0 + (x1 - x0) * t1;
+        minX = Math.min(minX, Math.min(xa, xb));
+        maxX = Math.max(maxX, Math.max(xa, xb));
+      }
+    }
+
+    if (minX > maxX) {
+      column = 0;
+      lastColumn = -1;
+    } else {
+      column = Math.max(0, (long) Math.floor((minX - PADDING) / cellSize));
+      lastColumn = (long) Math.floor((maxX + PADDING) / cellSize);
+    }
+  }
+}
@@ -0,0 +1,223 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+import java.text.ParseException;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.UsngCoordinate;
+
+/**
+ * Sortable keys for USNG cells. Keys sort every cell directly before the cells it contains, at
+ * every precision from SIX_BY_EIGHT_DEGREES down to ONE_METER, so everything inside a cell is one
+ * contiguous range of keys, see {@link #rangeStart(long)} and {@link #rangeEnd(long)}.
+ *
+ * <p>From the most significant bit down, a key holds 5 unused bits, the zone number (6 bits), the
+ * latitude band (5), the 100 km column (5) and row (5) letters, one 7 bit level per digit of
+ * precision holding {@code easting digit * 10 + northing digit}, and the precision (3). Parts finer
+ * than the precision are zero. Keys are always positive, so their signed order, their unsigned
+ * order and the order of their big endian bytes are the same.
+ */
+public final class UsngCellKey {
+  private static final CoordinatePrecision[] PRECISIONS = CoordinatePrecision.values();
+
+  private static final int MAX_DIGITS = CoordinatePrecision.ONE_METER.getIntValue();
+
+  private static final int PRECISION_BITS = 3;
+
+  private static final int LEVEL_BITS = 7;
+
+  private static final int LETTER_BITS = 5;
+
+  private static final int LEVELS_SHIFT = PRECISION_BITS;
+
+  private static final int ROW_SHIFT = LEVELS_SHIFT + MAX_DIGITS * LEVEL_BITS;
+
+  private static final int COLUMN_SHIFT = ROW_SHIFT + LETTER_BITS;
+
+  private static final int BAND_SHIFT = COLUMN_SHIFT + LETTER_BITS;
+
+  private static final int ZONE_SHIFT = BAND_SHIFT + 5;
+
+  private static final long PRECISION_MASK = (1L << PRECISION_BITS) - 1;
+
+  private static final long LEVEL_MASK = (1L << LEVEL_BITS) - 1;
+
+  private static final long LETTER_MASK = (1L << LETTER_BITS) - 1;
+
+  private UsngCellKey() {}
+
+  /**
+   * @param usngCoordinate a USNG cell.
+   * @return the key of the cell.
+   * @throws IllegalArgumentException if 'usngCoordinate' is not a valid USNG coordinate.
+   */
+  public static long of(final UsngCoordinate usngCoordinate) {
+    return fromPacked(PackedUsngCoordinate.pack(usngCoordinate));
+  }
+
+  /**
+   * @param mgrsString the MGRS string of a cell.
+   * @return the key of the cell.
+   * @throws ParseException when 'mgrsString' isn't in MGRS format.
+   */
+  public static long parseMgrsString(final String mgrsString) throws ParseException {
+    return fromPacked(PackedUsngCoordinate.parseMgrsString(mgrsString));
+  }
+
+  /**
+   * @param packed a coordinate packed by {@link PackedUsngCoordinate}.
+   * @return the key of the cell.
+   * @throws IllegalArgumentException if 'packed' is not a packed coordinate.
+   */
+  public static long fromPacked(final long packed) {
+    final CoordinatePrecision precision = PackedUsngCoordinate.precisionOf(packed);
+
+    long key =
+        ((long) PackedUsngCoordinate.getZoneNumber(packed) << ZONE_SHIFT)
+            | ((long) PackedUsngCoordinate.getLatitudeBandIndex(packed) << BAND_SHIFT)
+            | precision.ordinal();
+
+    if (precision == CoordinatePrecision.SIX_BY_EIGHT_DEGREES) {
+      return key;
+    }
+
+    key |=
+        ((long) (PackedUsngCoordinate.getColumnLetter(packed) - 'A') << COLUMN_SHIFT)
+            | ((long) (PackedUsngCoordinate.getRowLetter(packed) - 'A') << ROW_SHIFT);
+
+    int easting = PackedUsngCoordinate.getEasting(packed);
+    int northing = PackedUsngCoordinate.getNorthing(packed);
+
+    for (int level = precision.getIntValue(); level >= 1; level--) {
+      key |= (long) (easting % 10 * 10 + northing % 10) << levelShift(level);
+      easting /= 10;
+      northing /= 10;
+    }
+
+    return key;
+  }
+
+  /**
+   * @param key the key of a cell.
+   * @return the cell packed as by {@link PackedUsngCoordinate}.
+   * @throws IllegalArgumentException if 'key' is not a cell key.
+   */
+  public static long toPacked(final long key) {
+    final CoordinatePrecision precision = getPrecision(key);
+
+    if (key >>> (ZONE_SHIFT + 6) != 0 || (key & rangeMask(key)) != 0) {
+      throw new IllegalArgumentException("Not a USNG cell key: 0x" + Long.toHexString(key));
+    }
+
+    final boolean hasGridSquare = precision != CoordinatePrecision.SIX_BY_EIGHT_DEGREES;
+    int easting = 0;
+    int northing = 0;
+
+    for (int level = 1; level <= precision.getIntValue(); level++) {
+      final int digits = (int) ((key >>> levelShift(level)) & LEVEL_MASK);
+
+      if (digits >= 100) {
+        throw new IllegalArgumentException("Not a USNG cell key: 0x" + Long.toHexString(key));
+      }
+
+      easting = easting * 10 + digits / 10;
+      northing = northing * 10 + digits % 10;
+    }
+
+    return PackedUsngCoordinate.pack(
+        (int) (key >>> ZONE_SHIFT),
+        (int) ((key >>> BAND_SHIFT) & 0x1F),
+        hasGridSquare ? (char) ('A' + ((key >>> COLUMN_SHIFT) & LETTER_MASK)) : 0,
+        hasGridSquare ? (char) ('A' + ((key >>> ROW_SHIFT) & LETTER_MASK)) : 0,
+        easting,
+        northing,
+        precision);
+  }
+
+  /**
+   * @param key the key of a cell.
+   * @return the cell.
+   * @throws IllegalArgumentException if 'key' is not a cell key.
+   */
+  public static UsngCoordinate toUsngCoordinate(final long key) {
+    return PackedUsngCoordinate.unpack(toPacked(key));
+  }
+
+  /**
+   * @param key the key of a cell.
+   * @return the precision of the cell.
+   * @throws IllegalArgumentException if 'key' is not a cell key.
+   */
+  public static CoordinatePrecision getPrecision(final long key) {
+    final int precisionOrdinal = (int) (key & PRECISION_MASK);
+
+    if (precisionOrdinal >= PRECISIONS.length) {
+      throw new IllegalArgumentException("Not a USNG cell key: 0x" + Long.toHexString(key));
+    }
+
+    return PRECISIONS[precisionOrdinal];
+  }
+
+  /**
+   * @param key the key of a cell.
+   * @return the smallest key of the cell and the cells inside it, which is 'key' itself.
+   * @throws IllegalArgumentException if 'key' is not a cell key.
+   */
+  public static long rangeStart(final long key) {
+    return key & ~rangeMask(key);
+  }
+
+  /**
+   * @param key the key of a cell.
+   * @return the largest key of the cell and the cells inside it (inclusive).
+   * @throws IllegalArgumentException if 'key' is not a cell key.
+   */
+  public static long rangeEnd(final long key) {
+    return key | rangeMask(key) | PRECISION_MASK;
+  }
+
+  /**
+   * @param cellKey the key of a cell.
+   * @param key the key of another cell.
+   * @return 'true' if the cell of 'key' is the cell of 'cellKey' or inside it.
+   * @throws IllegalArgumentException if 'cellKey' is not a cell key.
+   */
+  public static boolean contains(final long cellKey, final long key) {
+    return key >= rangeStart(cellKey) && key <= rangeEnd(cellKey);
+  }
+
+  /** @return the bits of the parts finer than the precision of 'key', excluding the precision. */
+  private static long rangeMask(final long key) {
+    final CoordinatePrecision precision = getPrecision(key);
+
+    if (precision == CoordinatePrecision.SIX_BY_EIGHT_DEGREES) {
+      return (1L << BAND_SHIFT) - 1 - PRECISION_MASK;
+    }
+
+    return (1L << levelShift(precision.getIntValue())) - 1 - PRECISION_MASK;
+  }
+
+  /** @return the shift of the level holding the digits of 'level', 1 to 5. */
+  private static int levelShift(final int level) {
+    return LEVELS_SHIFT + (MAX_DIGITS - level) * LEVEL_BITS;
+  }
+}
@@ -0,0 +1,165 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Canonical instances of the coarse USNG cells. There are only 1,200 grid zones and fewer than
+ * 200,000 100 km squares, so conversions and parsing at SIX_BY_EIGHT_DEGREES and
+ * ONE_HUNDRED_KILOMETERS precision return shared instances from here instead of allocating new
+ * ones. Equal cells are then the same instance and can be compared with {@code ==}.
+ *
+ * <p>The pool of a grid zone is created the first time one of its cells is requested, and holds the
+ * grid zone and the 160 squares of its zone set's 8 column letters and 20 row letters. Cells that
+ * are not well formed, such as squares whose column letter belongs to another zone set, are not
+ * pooled and are returned as new instances. The pool is thread safe and lock free: concurrent
+ * requests for a new cell may create it more than once, but all of them return the instance that
+ * was published first.
+ */
+final class UsngCellPool {
+  private static final String LATITUDE_BANDS = "CDEFGHJKLMNPQRSTUVWX";
+
+  // the column letters of the three zone sets, 8 per set
+  private static final String COLUMN_LETTERS = "ABCDEFGHJKLMNPQRSTUVWXYZ";
+
+  private static final String ROW_LETTERS = "ABCDEFGHJKLMNPQRSTUV";
+
+  private static final int COLUMNS_PER_SET = 8;
+
+  static final int GRID_ZONES_COUNT = 60 * LATITUDE_BANDS.length();
+
+  static final int SQUARES_PER_GRID_ZONE = COLUMNS_PER_SET * ROW_LETTERS.length();
+
+  private static final AtomicReferenceArray<AtomicReferenceArray<UsngCoordinateImpl>> GRID_ZONES =
+      new AtomicReferenceArray<>(GRID_ZONES_COUNT);
+
+  private UsngCellPool() {}
+
+  /**
+   * @param zoneNumber the zone number of the grid zone.
+   * @param latitudeBandLetter the latitude band letter of the grid zone.
+   * @return the SIX_BY_EIGHT_DEGREES cell.
+   */
+  static UsngCoordinateImpl gridZone(final int zoneNumber, final char latitudeBandLetter) {
+    final AtomicReferenceArray<UsngCoordinateImpl> cells = cells(zoneNumber, latitudeBandLetter);
+
+    if (cells == null) {
+      return new UsngCoordinateImpl(zoneNumber, latitudeBandLetter);
+    }
+
+    final UsngCoordinateImpl cell = cells.get(0);
+    return cell != null
+        ? cell
+        : publish(cells, 0, new UsngCoordinateImpl(zoneNumber, latitudeBandLetter));
+  }
+
+  /**
+   * @param zoneNumber the zone number of the square.
+   * @param latitudeBandLetter the latitude band letter of the square.
+   * @param columnLetter the 100 km column letter of the square.
+   * @param rowLetter the 100 km row letter of the square.
+   * @return the ONE_HUNDRED_KILOMETERS cell.
+   */
+  static UsngCoordinateImpl gridSquare(
+      final int zoneNumber,
+      final char latitudeBandLetter,
+      final char columnLetter,
+      final char rowLetter) {
+    final AtomicReferenceArray<UsngCoordinateImpl> cells = cells(zoneNumber, latitudeBandLetter);
+    final int square = squareIndex(zoneNumber, columnLetter, rowLetter);
+
+    if (cells == null || square < 0) {
+      return new UsngCoordinateImpl(zoneNumber, latitudeBandLetter, columnLetter, rowLetter);
+    }
+
+    // the grid zone itself comes first
+    final int index = 1 + square;
+    final UsngCoordinateImpl cell = cells.get(index);
+    return cell != null
+        ? cell
+        : publish(
+            cells,
+            index,
+            new UsngCoordinateImpl(zoneNumber, latitudeBandLetter, columnLetter, rowLetter));
+  }
+
+  /**
+   * @param zoneNumber the zone number of the grid zone.
+   * @param latitudeBandLetter the latitude band letter of the grid zone.
+   * @return the index of the grid zone below {@link #GRID_ZONES_COUNT}, or -1 if the grid zone is
+   *     not well formed.
+   */
+  static int gridZoneIndex(final int zoneNumber, final char latitudeBandLetter) {
+    final int band = LATITUDE_BANDS.indexOf(latitudeBandLetter);
+
+    if (zoneNumber < 1 || zoneNumber > 60 || band < 0) {
+      return -1;
+    }
+
+    return (zoneNumber - 1) * LATITUDE_BANDS.length() + band;
+  }
+
+  /**
+   * @param zoneNumber the zone number of the square.
+   * @param columnLetter the 100 km column letter of the square.
+   * @param rowLetter the 100 km row letter of the square.
+   * @return the index of the square within its grid zone, below {@link #SQUARES_PER_GRID_ZONE}, or
+   *     -1 if the column letter is not in the zone's set or either letter is not a grid letter.
+   */
+  static int squareIndex(final int zoneNumber, final char columnLetter, final char rowLetter) {
+    final int column = COLUMN_LETTERS.indexOf(columnLetter);
+    final int row = ROW_LETTERS.indexOf(rowLetter);
+
+    if (column < 0 || row < 0 || column / COLUMNS_PER_SET != (zoneNumber - 1) % 3) {
+      return -1;
+    }
+
+    return row * COLUMNS_PER_SET + column % COLUMNS_PER_SET;
+  }
+
+  /** @return the pool of a grid zone, or null if the grid zone is not well formed. */
+  private static AtomicReferenceArray<UsngCoordinateImpl> cells(
+      final int zoneNumber, final char latitudeBandLetter) {
+    final int index = gridZoneIndex(zoneNumber, latitudeBandLetter);
+
+    if (index < 0) {
+      return null;
+    }
+
+    final AtomicReferenceArray<UsngCoordinateImpl> cells = GRID_ZONES.get(index);
+
+    if (cells != null) {
+      return cells;
+    }
+
+    GRID_ZONES.compareAndSet(index, null, new AtomicReferenceArray<>(1 + SQUARES_PER_GRID_ZONE));
+    return GRID_ZONES.get(index);
+  }
+
+  private static UsngCoordinateImpl publish(
+      final AtomicReferenceArray<UsngCoordinateImpl> cells,
+      final int index,
+      final UsngCoordinateImpl cell) {
+    return cells.compareAndSet(index, null, cell) ? cell : cells.get(index);
+  }
+}
@@ -23,29 +23,27 @@
 
 package org.codice.usng4j.impl;
 
+import static org.codice.usng4j.impl.ParsingSupport.digitAt;
+import static org.codice.usng4j.impl.ParsingSupport.isDigit;
+import static org.codice.usng4j.impl.ParsingSupport.isLetter;
+import static org.codice.usng4j.impl.ParsingSupport.isWhitespace;
+import static org.codice.usng4j.impl.ParsingSupport.isWordCharacter;
+import static org.codice.usng4j.impl.ParsingSupport.upperCaseAt;
+
 import java.text.ParseException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.ParseErrorCode;
+import org.codice.usng4j.ParseResult;
 import org.codice.usng4j.UsngCoordinate;
 
 final class UsngCoordinateImpl implements UsngCoordinate {
-  private static final String REGEX_GROUPING_FORMAT = "(%s)%s%s";
-  private static final String USNG_REGEXP =
-      String.format(
-          REGEX_GROUPING_FORMAT,
-          ZONE_REGEX_STRING,
-          LATITUDE_BAND_REGEX_STRING,
-          USNG_COORDINATE_PART_REGEX_STRING);
-  private static final String MGRS_REGEXP =
-      String.format(
-          REGEX_GROUPING_FORMAT,
-          ZONE_REGEX_STRING,
-          LATITUDE_BAND_REGEX_STRING,
-          MGRS_COORDINATE_PART_REGEX_STRING);
+  // maximum length of the numerical location part, see USNG_COORDINATE_PART_REGEX_STRING and
+  // MGRS_COORDINATE_PART_REGEX_STRING
+  private static final int MAX_USNG_NUMERICAL_LOCATION_LENGTH = 12;
+
+  private static final int MAX_NUMERICAL_LOCATION_DIGITS = 10;
 
   private int zoneNumber;
 
@@ -61,6 +59,8 @@ final class UsngCoordinateImpl implements UsngCoordinate {
 
   private CoordinatePrecision precision;
 
+  private int hashCode;
+
   /**
    * @param zoneNumber the zone number of this USNG coordinate.
    * @param latitudeBandLetter the latitude band letter of this USNG coordinate.
@@ -181,7 +181,7 @@ final class UsngCoordinateImpl implements UsngCoordinate {
    * @throws ParseException when 'usngStr' isn't in USNG format.
    */
   static UsngCoordinate parseUsngString(final String usngStr) throws ParseException {
-    return UsngCoordinateImpl.parseCoordinateString(usngStr, USNG_REGEXP);
+    return UsngCoordinateImpl.valueOrThrow(usngStr, tryParseUsngString(usngStr));
   }
 
   /**
@@ -190,72 +190,207 @@ final class UsngCoordinateImpl implements UsngCoordinate {
    * @throws ParseException when 'msgrsStr' isn't in MGRS format.
    */
   static UsngCoordinate parseMgrsString(final String mgrsStr) throws ParseException {
-    return UsngCoordinateImpl.parseCoordinateString(mgrsStr, MGRS_REGEXP);
+    return UsngCoordinateImpl.valueOrThrow(mgrsStr, tryParseMgrsString(mgrsStr));
+  }
+
+  /**
+   * @param usngStr a USNG string.
+   * @return the parsed UsngCoordinate, or the reason 'usngStr' isn't in USNG format.
+   */
+  static ParseResult<UsngCoordinate> tryParseUsngString(final CharSequence usngStr) {
+    return UsngCoordinateImpl.parseCoordinateString(usngStr, false);
+  }
+
+  /**
+   * @param mgrsStr an MGRS string.
+   * @return the parsed UsngCoordinate, or the reason 'mgrsStr' isn't in MGRS format.
+   */
+  static ParseResult<UsngCoordinate> tryParseMgrsString(final CharSequence mgrsStr) {
+    return UsngCoordinateImpl.parseCoordinateString(mgrsStr, true);
   }
 
-  private static UsngCoordinate parseCoordinateString(
-      final String coordinateString, final String regexp) throws ParseException {
-    UsngCoordinate result = null;
+  private static UsngCoordinate valueOrThrow(
+      final String coordinateString, final ParseResult<UsngCoordinate> result)
+      throws ParseException {
+    if (result.isSuccess()) {
+      return result.getValue();
+    }
 
-    Pattern pattern = Pattern.compile(regexp);
-    Matcher m = pattern.matcher(coordinateString.toUpperCase());
+    String message =
+        String.format(
+            "Supplied argument '%s' is not a valid USNG formatted String.", coordinateString);
 
-    if (!m.matches()) {
-      String message =
+    if (result.getErrorCode() == ParseErrorCode.INVALID_NUMERICAL_LOCATION) {
+      message +=
           String.format(
-              "Supplied argument '%s' is not a valid USNG formatted String.", coordinateString);
-      throw new ParseException(message, 0);
+              " '%s' is an invalid numerical location.",
+              coordinateString.substring(result.getErrorOffset()).replaceAll("\\s", ""));
     }
 
-    int zoneNumber = Integer.parseInt(m.group(1));
-    char latitudeBandLetter = m.group(2).toCharArray()[0];
+    throw new ParseException(message, result.getErrorOffset());
+  }
 
-    if (m.group(3) != null) {
-      char columnLetter = m.group(3).toCharArray()[0];
-      char rowLetter = m.group(3).toCharArray()[1];
+  /**
+   * Single pass scanner for the grammar described by the USNG and MGRS regular expressions in
+   * {@link UsngCoordinate}. Letters are matched case insensitively. Nothing but the result is
+   * allocated.
+   */
+  private static ParseResult<UsngCoordinate> parseCoordinateString(
+      final CharSequence coordinateString, final boolean isMgrs) {
+    final int length = coordinateString.length();
 
-      // the 4th regex capture group for USNG and MGRS coordinates contains the full numerical
-      // location, including any whitespace
-      if (!StringUtils.isEmpty(m.group(4))) {
-        // full numerical location with easting and northing values given as n+n digits
-        String numericalLocation = m.group(4).replaceAll("\\s", "");
+    // zone number: 1-9 or 10-60, without leading zeros
+    int zoneNumber = digitAt(coordinateString, 0);
+    int position = 1;
 
-        // the numerical location should be 2, 4, 6, 8, or 10 digits long
-        if (numericalLocation.length() % 2 != 0 && numericalLocation.length() <= 10) {
-          String message =
-              String.format(
-                  "Supplied argument '%s' is not a valid USNG formatted String. '%s' is an invalid "
-                      + "numerical location.",
-                  coordinateString, numericalLocation);
+    if (length == 0) {
+      return ParseResultImpl.failure(ParseErrorCode.UNEXPECTED_END_OF_INPUT, 0);
+    }
 
-          throw new ParseException(message, 0);
-        }
+    if (zoneNumber < 1) {
+      return ParseResultImpl.failure(ParseErrorCode.INVALID_ZONE_NUMBER, 0);
+    }
+
+    final int secondZoneDigit = digitAt(coordinateString, position);
+
+    if (secondZoneDigit >= 0) {
+      zoneNumber = zoneNumber * 10 + secondZoneDigit;
+      position++;
+
+      if (zoneNumber > 60) {
+        return ParseResultImpl.failure(ParseErrorCode.INVALID_ZONE_NUMBER, 0);
+      }
+    }
+
+    final char latitudeBandLetter = upperCaseAt(coordinateString, position);
+
+    if (position == length) {
+      return ParseResultImpl.failure(ParseErrorCode.UNEXPECTED_END_OF_INPUT, position);
+    } else if (isDigit(latitudeBandLetter)) {
+      return ParseResultImpl.failure(ParseErrorCode.INVALID_ZONE_NUMBER, 0);
+    } else if (!isLatitudeBandLetter(latitudeBandLetter)) {
+      return ParseResultImpl.failure(ParseErrorCode.INVALID_LATITUDE_BAND, position);
+    }
+
+    position++;
+
+    // the band may be separated from the grid square by any single non-word character
+    if (position < length && !isWordCharacter(coordinateString.charAt(position))) {
+      position++;
+    }
+
+    final char columnLetter = upperCaseAt(coordinateString, position);
+    final char rowLetter = upperCaseAt(coordinateString, position + 1);
+    final boolean hasGridSquare = isColumnLetter(columnLetter) && isRowLetter(rowLetter);
+
+    if (hasGridSquare) {
+      position += 2;
+    }
+
+    // the numerical location is up to 10 digits for MGRS and up to 12 digits, whitespace or '|'
+    // characters for USNG
+    final int numericalLocationStart = position;
+    int digitCount = 0;
+    boolean containsSeparator = false;
+
+    for (; position < length; position++) {
+      final char c = coordinateString.charAt(position);
+
+      if (isDigit(c)) {
+        digitCount++;
+      } else if (isMgrs || !(isWhitespace(c) || c == '|')) {
+        final boolean isGridSquareLetter =
+            !hasGridSquare && position == numericalLocationStart && isLetter(c);
+        return ParseResultImpl.failure(
+            isGridSquareLetter
+                ? ParseErrorCode.INVALID_GRID_SQUARE
+                : ParseErrorCode.UNEXPECTED_CHARACTER,
+            position);
+      } else if (c == '|') {
+        containsSeparator = true;
+      }
+    }
+
+    if (length - numericalLocationStart
+        > (isMgrs ? MAX_NUMERICAL_LOCATION_DIGITS : MAX_USNG_NUMERICAL_LOCATION_LENGTH)) {
+      return ParseResultImpl.failure(
+          ParseErrorCode.INVALID_NUMERICAL_LOCATION, numericalLocationStart);
+    }
+
+    if (!hasGridSquare) {
+      return ParseResultImpl.success(UsngCellPool.gridZone(zoneNumber, latitudeBandLetter));
+    }
+
+    if (digitCount == 0 && !containsSeparator) {
+      return ParseResultImpl.success(
+          UsngCellPool.gridSquare(zoneNumber, latitudeBandLetter, columnLetter, rowLetter));
+    }
+
+    // the numerical location should be 2, 4, 6, 8, or 10 digits long
+    if (containsSeparator || digitCount % 2 != 0 || digitCount > MAX_NUMERICAL_LOCATION_DIGITS) {
+      return ParseResultImpl.failure(
+          ParseErrorCode.INVALID_NUMERICAL_LOCATION, numericalLocationStart);
+    }
+
+    // easting value is first n digits and northing value is last n digits
+    final int digitsPerValue = digitCount / 2;
+    int easting = 0;
+    int northing = 0;
+    int digitIndex = 0;
+
+    for (position = numericalLocationStart; position < length; position++) {
+      final int digit = digitAt(coordinateString, position);
+
+      if (digit < 0) {
+        continue;
+      }
 
-        int splitIndex = numericalLocation.length() / 2;
-        // easting value is first n digits and northing value is last n digits
-        String easting = numericalLocation.substring(0, splitIndex);
-        String northing = numericalLocation.substring(splitIndex);
-        int eastingInt = Integer.parseInt(easting);
-        int northingInt = Integer.parseInt(northing);
-        CoordinatePrecision precision = CoordinatePrecision.forEastNorth(easting, northing);
-
-        result =
-            new UsngCoordinateImpl(
-                zoneNumber,
-                latitudeBandLetter,
-                columnLetter,
-                rowLetter,
-                eastingInt,
-                northingInt,
-                precision);
+      if (digitIndex++ < digitsPerValue) {
+        easting = easting * 10 + digit;
       } else {
-        result = new UsngCoordinateImpl(zoneNumber, latitudeBandLetter, columnLetter, rowLetter);
+        northing = northing * 10 + digit;
       }
-    } else {
-      result = new UsngCoordinateImpl(zoneNumber, latitudeBandLetter);
     }
 
-    return result;
+    return ParseResultImpl.success(
+        new UsngCoordinateImpl(
+            zoneNumber,
+            latitudeBandLetter,
+            columnLetter,
+            rowLetter,
+            easting,
+            northing,
+            precisionForDigits(digitsPerValue)));
+  }
+
+  private static CoordinatePrecision precisionForDigits(final int digitsPerValue) {
+    switch (digitsPerValue) {
+      case 1:
+        return CoordinatePrecision.TEN_KILOMETERS;
+      case 2:
+        return CoordinatePrecision.ONE_KILOMETER;
+      case 3:
+        return CoordinatePrecision.ONE_HUNDRED_METERS;
+      case 4:
+        return CoordinatePrecision.TEN_METERS;
+      default:
+        return CoordinatePrecision.ONE_METER;
+    }
+  }
+
+  // [C-HJ-NP-X]
+  private static boolean isLatitudeBandLetter(final char c) {
+    return c >= 'C' && c <= 'X' && c != 'I' && c != 'O';
+  }
+
+  // [A-HJ-NP-Z]
+  private static boolean isColumnLetter(final char c) {
+    return c >= 'A' && c <= 'Z' && c != 'I' && c != 'O';
+  }
+
+  // [A-HJ-NP-V]
+  private static boolean isRowLetter(final char c) {
+    return c >= 'A' && c <= 'V' && c != 'I' && c != 'O';
   }
 
   /**
@@ -290,13 +425,13 @@ final class UsngCoordinateImpl implements UsngCoordinate {
           stringBuilder.append(" ");
         }
 
-        stringBuilder.append(precision.format(easting));
+        precision.formatTo(stringBuilder, easting);
 
         if (includeSpaces) {
           stringBuilder.append(" ");
         }
 
-        stringBuilder.append(precision.format(northing));
+        precision.formatTo(stringBuilder, northing);
       }
     }
 
@@ -306,6 +441,10 @@ final class UsngCoordinateImpl implements UsngCoordinate {
   /** {@inheritDoc} */
   @Override
   public boolean equals(final Object object) {
+    if (object == this) {
+      return true;
+    }
+
     if (object == null) {
       return false;
     }
@@ -330,6 +469,15 @@ final class UsngCoordinateImpl implements UsngCoordinate {
   /** {@inheritDoc} */
   @Override
   public int hashCode() {
+    // coordinates are immutable, and the pooled ones are hashed over and over
+    if (hashCode == 0) {
+      hashCode = computeHashCode();
+    }
+
+    return hashCode;
+  }
+
+  private int computeHashCode() {
     return new HashCodeBuilder()
         .append(this.zoneNumber)
         .append(this.latitudeBandLetter)
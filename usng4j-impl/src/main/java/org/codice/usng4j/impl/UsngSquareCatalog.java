@@ -0,0 +1,177 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+import org.codice.usng4j.BoundingBox;
+import org.codice.usng4j.CoordinatePrecision;
+
+/**
+ * The 100 km squares of every grid zone, each with its bounding box clipped to the zone and band
+ * limits. The catalog of a grid zone is built the first time one of its squares is requested: its
+ * squares are the grid zone's part of the cover of its bounds, and each box is computed once from
+ * the square's corners and kept for the lifetime of the class.
+ *
+ * <p>The boxes depend only on the ellipsoid and the Transverse Mercator series, so all translators
+ * that share them share one catalog, and the catalogs are only ever added to. The catalog is thread
+ * safe and lock free: concurrent requests for a new grid zone may build it more than once, but all
+ * of them read the catalog that was published first.
+ */
+final class UsngSquareCatalog {
+  private static final ConcurrentMap<Key, UsngSquareCatalog> CATALOGS = new ConcurrentHashMap<>();
+
+  private final Ellipsoid ellipsoid;
+
+  private final TransverseMercatorSeries series;
+
+  // the boxes of each grid zone, indexed as the squares of UsngCellPool; null for squares outside
+  // the grid zone
+  private final AtomicReferenceArray<BoundingBox[]> gridZones =
+      new AtomicReferenceArray<>(UsngCellPool.GRID_ZONES_COUNT);
+
+  private UsngSquareCatalog(final Ellipsoid ellipsoid, final TransverseMercatorSeries series) {
+    this.ellipsoid = ellipsoid;
+    this.series = series;
+  }
+
+  /**
+   * @param ellipsoid the ellipsoid of the boxes.
+   * @param series the series used to project the squares' corners.
+   * @return the catalog shared by every translator with 'ellipsoid' and 'series'.
+   */
+  static UsngSquareCatalog of(final Ellipsoid ellipsoid, final TransverseMercatorSeries series) {
+    return CATALOGS.computeIfAbsent(
+        new Key(ellipsoid, series), key -> new UsngSquareCatalog(ellipsoid, series));
+  }
+
+  /**
+   * @param zoneNumber the zone number of the square.
+   * @param latitudeBandLetter the latitude band letter of the square.
+   * @param columnLetter the 100 km column letter of the square.
+   * @param rowLetter the 100 km row letter of the square.
+   * @return the clipped bounding box of the square, or null if the square does not intersect the
+   *     grid zone or is not well formed.
+   */
+  @Nullable
+  BoundingBox getBoundingBox(
+      final int zoneNumber,
+      final char latitudeBandLetter,
+      final char columnLetter,
+      final char rowLetter) {
+    final int gridZone = UsngCellPool.gridZoneIndex(zoneNumber, latitudeBandLetter);
+    final int square = UsngCellPool.squareIndex(zoneNumber, columnLetter, rowLetter);
+
+    if (gridZone < 0 || square < 0) {
+      return null;
+    }
+
+    BoundingBox[] boxes = gridZones.get(gridZone);
+
+    if (boxes == null) {
+      gridZones.compareAndSet(gridZone, null, build(zoneNumber, latitudeBandLetter));
+      boxes = gridZones.get(gridZone);
+    }
+
+    return boxes[square];
+  }
+
+  private BoundingBox[] build(final int zoneNumber, final char latitudeBandLetter) {
+    final BoundingBox[] boxes = new BoundingBox[UsngCellPool.SQUARES_PER_GRID_ZONE];
+    final long gridZone =
+        PackedUsngCoordinate.pack(
+            zoneNumber,
+            latitudeBandLetter,
+            (char) 0,
+            (char) 0,
+            0,
+            0,
+            CoordinatePrecision.SIX_BY_EIGHT_DEGREES);
+    final int band = PackedUsngCoordinate.getLatitudeBandIndex(gridZone);
+    final double north = UsngCellCover.bandNorth(band);
+    final double south = UsngCellCover.bandSouth(band);
+    final double east = UsngCellCover.zoneEast(band, zoneNumber);
+    final double west = UsngCellCover.zoneWest(band, zoneNumber);
+
+    // zones 32, 34 and 36 do not exist in band X
+    if (Double.isNaN(west)) {
+      return boxes;
+    }
+
+    final CoordinateSystemTranslatorImpl translator =
+        new CoordinateSystemTranslatorImpl(ellipsoid, series);
+    final PrimitiveIterator.OfLong squares =
+        translator
+            .toPackedUsngChildren(gridZone, CoordinatePrecision.ONE_HUNDRED_KILOMETERS)
+            .iterator();
+
+    while (squares.hasNext()) {
+      final long square = squares.nextLong();
+      final BoundingBox box = translator.computeBoundingBox(PackedUsngCoordinate.unpack(square));
+      boxes[
+              UsngCellPool.squareIndex(
+                  zoneNumber,
+                  PackedUsngCoordinate.getColumnLetter(square),
+                  PackedUsngCoordinate.getRowLetter(square))] =
+          new BoundingBoxImpl(
+              clamp(box.getNorth(), south, north),
+              clamp(box.getSouth(), south, north),
+              clamp(box.getEast(), west, east),
+              clamp(box.getWest(), west, east));
+    }
+
+    return boxes;
+  }
+
+  private static double clamp(final double value, final double min, final double max) {
+    return Math.max(min, Math.min(max, value));
+  }
+
+  private static final class Key {
+    private final Ellipsoid ellipsoid;
+
+    private final TransverseMercatorSeries series;
+
+    Key(final Ellipsoid ellipsoid, final TransverseMercatorSeries series) {
+      this.ellipsoid = ellipsoid;
+      this.series = series;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+      if (!(object instanceof Key)) {
+        return false;
+      }
+
+      final Key other = (Key) object;
+      return series == other.series && ellipsoid.equals(other.ellipsoid);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * ellipsoid.hashCode() + series.hashCode();
+    }
+  }
+}
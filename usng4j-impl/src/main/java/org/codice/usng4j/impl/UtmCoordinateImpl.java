@@ -59,8 +59,7 @@ final class UtmCoordinateImpl implements UtmCoordinate {
     this.zoneNumber = zoneNumber;
     this.easting = easting;
     this.northing = northing;
-    this.precision =
-        CoordinatePrecision.forEastNorth(Double.toString(easting), Double.toString(northing));
+    this.precision = CoordinatePrecision.forEastNorth(easting, northing);
     this.nsIndicator = NORTH;
   }
 
@@ -162,14 +161,13 @@ final class UtmCoordinateImpl implements UtmCoordinate {
    */
   @Override
   public String toString() {
-    return new StringBuilder()
-        .append(zoneNumber)
-        .append(lattitudeBand == null ? "" : lattitudeBand)
-        .append(" ")
-        .append(precision.format((int) easting))
-        .append(" ")
-        .append(precision.format((int) northing))
-        .toString();
+    StringBuilder stringBuilder =
+        new StringBuilder()
+            .append(zoneNumber)
+            .append(lattitudeBand == null ? "" : lattitudeBand)
+            .append(" ");
+    precision.formatTo(stringBuilder, (int) easting).append(" ");
+    return precision.formatTo(stringBuilder, (int) northing).toString();
   }
 
   @Override
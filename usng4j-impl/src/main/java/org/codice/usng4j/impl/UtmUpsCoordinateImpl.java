@@ -25,6 +25,11 @@ package org.codice.usng4j.impl;
 
 import static org.codice.usng4j.NSIndicator.NORTH;
 import static org.codice.usng4j.NSIndicator.SOUTH;
+import static org.codice.usng4j.impl.ParsingSupport.isLetter;
+import static org.codice.usng4j.impl.ParsingSupport.parseDigits;
+import static org.codice.usng4j.impl.ParsingSupport.skipDigits;
+import static org.codice.usng4j.impl.ParsingSupport.skipWhitespace;
+import static org.codice.usng4j.impl.ParsingSupport.upperCaseAt;
 
 import java.text.ParseException;
 import java.util.Arrays;
@@ -32,8 +37,6 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -42,20 +45,14 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.codice.usng4j.CoordinatePrecision;
 import org.codice.usng4j.NSIndicator;
+import org.codice.usng4j.ParseErrorCode;
+import org.codice.usng4j.ParseResult;
 import org.codice.usng4j.UtmUpsCoordinate;
 
 public class UtmUpsCoordinateImpl implements UtmUpsCoordinate {
 
   public static final double NORTHING_OFFSET = 10_000_000; // (meters)
 
-  private static final String UTMUPS_REGEXP =
-      "\\s*(\\d*)([A-Z]?)\\s+(\\d+)(?:[mM][eE])?\\s+(\\d+)(?:[mM][nN])?\\s*((\\s+[nNsS])?)\\s*";
-  private static final Pattern utmUpsRegexp = Pattern.compile(UTMUPS_REGEXP);
-  private static final int ZONE_NUMBER_RE_GROUP = 1;
-  private static final int LATITUDE_BAND_RE_GROUP = 2;
-  private static final int EASTING_RE_GROUP = 3;
-  private static final int NORTHING_RE_GROUP = 4;
-  private static final int NS_INDICATOR_RE_GROUP = 5;
   private static final Set<Character> upsNorthernBands = new HashSet<>(Arrays.asList('Y', 'Z'));
   private static final Set<Character> upsSouthernBands = new HashSet<>(Arrays.asList('A', 'B'));
   private static final Set<Character> utmNorthernBands =
@@ -95,8 +92,7 @@ public class UtmUpsCoordinateImpl implements UtmUpsCoordinate {
     this.easting = easting;
     this.northing = northing;
     this.nsIndicator = nsIndicator;
-    this.precision =
-        CoordinatePrecision.forEastNorth(Double.toString(easting), Double.toString(northing));
+    this.precision = CoordinatePrecision.forEastNorth(easting, northing);
   }
 
   static UtmUpsCoordinate fromZoneBandEastingNorthingNSI(
@@ -213,30 +209,168 @@ public class UtmUpsCoordinateImpl implements UtmUpsCoordinate {
    * @throws ParseException when 'utmUpsString' isn't correctly formatted.
    */
   static UtmUpsCoordinate parseUtmUpsString(final String utmUpsString) throws ParseException {
-    final Matcher matcher = utmUpsRegexp.matcher(utmUpsString);
-    if (!matcher.matches()) {
-      handleUnsuccessfulParsing(utmUpsString);
+    final ParseResult<UtmUpsCoordinate> result = parseUtmUpsString(utmUpsString, true);
+
+    if (!result.isSuccess()) {
+      throw new ParseException(
+          String.format(
+              "Supplied argument '%s' is not a valid UTM/UPS formatted String.", utmUpsString),
+          result.getErrorOffset());
+    }
+
+    return result.getValue();
+  }
+
+  /**
+   * @param utmUpsString a UTM/UPS string. e.g. {@code 10Q 123456 0123456}
+   * @return the parsed coordinate, or the reason 'utmUpsString' isn't correctly formatted or isn't
+   *     a valid UTM or UPS coordinate.
+   */
+  static ParseResult<UtmUpsCoordinate> tryParseUtmUpsString(final CharSequence utmUpsString) {
+    return parseUtmUpsString(utmUpsString, false);
+  }
+
+  /**
+   * Single pass scanner for the grammar {@code
+   * \s*(\d*)([A-Z]?)\s+(\d+)(?:[mM][eE])?\s+(\d+)(?:[mM][nN])?\s*((\s+[nNsS])?)\s*}. A well formed
+   * string that is neither a UTM nor a UPS coordinate fails with INVALID_COORDINATE, or throws an
+   * IllegalArgumentException if 'throwIfInvalid' is set.
+   */
+  private static ParseResult<UtmUpsCoordinate> parseUtmUpsString(
+      final CharSequence utmUpsString, final boolean throwIfInvalid) {
+    final int zoneStart = skipWhitespace(utmUpsString, 0);
+    final int zoneEnd = skipDigits(utmUpsString, zoneStart);
+    final int zoneNumber = parseDigits(utmUpsString, zoneStart, zoneEnd);
+
+    if (zoneNumber < 0) {
+      return ParseResultImpl.failure(ParseErrorCode.NUMBER_OUT_OF_RANGE, zoneStart);
+    }
+
+    Character latitudeBand = null;
+    int position = zoneEnd;
+
+    if (position < utmUpsString.length()
+        && utmUpsString.charAt(position) >= 'A'
+        && utmUpsString.charAt(position) <= 'Z') {
+      latitudeBand = utmUpsString.charAt(position);
+      position++;
+    }
+
+    final ParseResult<UtmUpsCoordinate> result =
+        parseEastingNorthingNSI(utmUpsString, position, zoneNumber, latitudeBand, throwIfInvalid);
+
+    // the zone and band are optional, in which case the leading whitespace separates nothing
+    // from the easting
+    if (!result.isSuccess()
+        && result.getErrorCode() != ParseErrorCode.INVALID_COORDINATE
+        && zoneStart > 0) {
+      final ParseResult<UtmUpsCoordinate> withoutZone =
+          parseEastingNorthingNSI(utmUpsString, 0, 0, null, throwIfInvalid);
+
+      if (withoutZone.isSuccess() || withoutZone.getErrorOffset() > result.getErrorOffset()) {
+        return withoutZone;
+      }
+    }
+
+    return result;
+  }
+
+  private static ParseResult<UtmUpsCoordinate> parseEastingNorthingNSI(
+      final CharSequence utmUpsString,
+      final int position,
+      final int zoneNumber,
+      @Nullable final Character latitudeBand,
+      final boolean throwIfInvalid) {
+    final int length = utmUpsString.length();
+    final int eastingStart = skipWhitespace(utmUpsString, position);
+
+    if (eastingStart == position) {
+      return ParseResultImpl.failure(
+          position == length
+              ? ParseErrorCode.UNEXPECTED_END_OF_INPUT
+              : isLetter(utmUpsString.charAt(position))
+                  ? ParseErrorCode.INVALID_LATITUDE_BAND
+                  : ParseErrorCode.UNEXPECTED_CHARACTER,
+          position);
+    }
+
+    final int eastingEnd = skipDigits(utmUpsString, eastingStart);
+    final int easting = parseDigits(utmUpsString, eastingStart, eastingEnd);
+
+    if (eastingEnd == eastingStart) {
+      return unexpectedCharacterOrEnd(utmUpsString, eastingStart);
+    } else if (easting < 0) {
+      return ParseResultImpl.failure(ParseErrorCode.NUMBER_OUT_OF_RANGE, eastingStart);
+    }
+
+    final int eastingUnitEnd = skipUnit(utmUpsString, eastingEnd, 'E');
+    final int northingStart = skipWhitespace(utmUpsString, eastingUnitEnd);
+
+    if (northingStart == eastingUnitEnd) {
+      return unexpectedCharacterOrEnd(utmUpsString, eastingUnitEnd);
+    }
+
+    final int northingEnd = skipDigits(utmUpsString, northingStart);
+    final int northing = parseDigits(utmUpsString, northingStart, northingEnd);
+
+    if (northingEnd == northingStart) {
+      return unexpectedCharacterOrEnd(utmUpsString, northingStart);
+    } else if (northing < 0) {
+      return ParseResultImpl.failure(ParseErrorCode.NUMBER_OUT_OF_RANGE, northingStart);
+    }
+
+    final int northingUnitEnd = skipUnit(utmUpsString, northingEnd, 'N');
+    int end = skipWhitespace(utmUpsString, northingUnitEnd);
+    NSIndicator nsIndicator = null;
+
+    // the N/S indicator must be separated from the northing by whitespace
+    if (end > northingUnitEnd && end < length) {
+      final char indicator = utmUpsString.charAt(end);
+
+      // as with the original pattern, only an upper case 'N' means north
+      if (indicator == 'N') {
+        nsIndicator = NORTH;
+      } else if (indicator == 'n' || indicator == 'S' || indicator == 's') {
+        nsIndicator = SOUTH;
+      }
+
+      if (nsIndicator != null) {
+        end = skipWhitespace(utmUpsString, end + 1);
+      }
     }
-    final String zoneNumber = matcher.group(ZONE_NUMBER_RE_GROUP);
-    final String latitudeBandString = matcher.group(LATITUDE_BAND_RE_GROUP);
-    final int easting = Integer.parseInt(matcher.group(EASTING_RE_GROUP));
-    final int northing = Integer.parseInt(matcher.group(NORTHING_RE_GROUP));
-    final String nsIndicatorString = matcher.group(NS_INDICATOR_RE_GROUP).trim();
-    final NSIndicator nsIndicator =
-        nsIndicatorString.length() > 0 ? nsIndicatorString.charAt(0) == 'N' ? NORTH : SOUTH : null;
-    return fromZoneBandEastingNorthingNSI(
-        zoneNumber.length() > 0 ? Integer.parseInt(zoneNumber) : 0,
-        latitudeBandString.length() > 0 ? latitudeBandString.charAt(0) : null,
-        easting,
-        northing,
-        nsIndicator);
+
+    if (end < length) {
+      return ParseResultImpl.failure(ParseErrorCode.UNEXPECTED_CHARACTER, end);
+    }
+
+    if (throwIfInvalid) {
+      return ParseResultImpl.success(
+          fromZoneBandEastingNorthingNSI(zoneNumber, latitudeBand, easting, northing, nsIndicator));
+    }
+
+    final Optional<UtmUpsCoordinate> coordinate =
+        fromZoneBandEastingNorthingNSIIfPossible(
+            zoneNumber, latitudeBand, easting, northing, nsIndicator);
+
+    return coordinate.isPresent()
+        ? ParseResultImpl.success(coordinate.get())
+        : ParseResultImpl.failure(ParseErrorCode.INVALID_COORDINATE, 0);
   }
 
-  private static void handleUnsuccessfulParsing(final String invalidInput) throws ParseException {
-    throw new ParseException(
-        String.format(
-            "Supplied argument '%s' is not a valid UTM/UPS formatted String.", invalidInput),
-        0);
+  /** @return the index after an optional 'm' unit followed by 'suffix', case insensitively. */
+  private static int skipUnit(final CharSequence utmUpsString, final int index, final char suffix) {
+    return upperCaseAt(utmUpsString, index) == 'M' && upperCaseAt(utmUpsString, index + 1) == suffix
+        ? index + 2
+        : index;
+  }
+
+  private static ParseResult<UtmUpsCoordinate> unexpectedCharacterOrEnd(
+      final CharSequence utmUpsString, final int index) {
+    return ParseResultImpl.failure(
+        index == utmUpsString.length()
+            ? ParseErrorCode.UNEXPECTED_END_OF_INPUT
+            : ParseErrorCode.UNEXPECTED_CHARACTER,
+        index);
   }
 
   @Override
@@ -251,13 +385,19 @@ public class UtmUpsCoordinateImpl implements UtmUpsCoordinate {
 
   @Override
   public String toString() {
-    return (zone == 0 ? "" : String.valueOf(zone))
-        + (latitudeBand == null ? "" : latitudeBand)
-        + " "
-        + precision.format((int) easting)
-        + "mE "
-        + precision.format((int) northing)
-        + "mN";
+    final StringBuilder stringBuilder = new StringBuilder();
+
+    if (zone != 0) {
+      stringBuilder.append(zone);
+    }
+
+    if (latitudeBand != null) {
+      stringBuilder.append(latitudeBand.charValue());
+    }
+
+    stringBuilder.append(' ');
+    precision.formatTo(stringBuilder, (int) easting).append("mE ");
+    return precision.formatTo(stringBuilder, (int) northing).append("mN").toString();
   }
 
   @Override
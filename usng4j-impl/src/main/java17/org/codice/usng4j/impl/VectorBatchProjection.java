@@ -0,0 +1,267 @@
+/* Copyright (c) 2026 Codice Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ **/
+
+package org.codice.usng4j.impl;
+
+import static org.codice.usng4j.NSIndicator.SOUTH;
+import static org.codice.usng4j.impl.CoordinateSystemTranslatorImpl.DEG_2_RAD;
+import static org.codice.usng4j.impl.CoordinateSystemTranslatorImpl.EASTING_OFFSET;
+import static org.codice.usng4j.impl.CoordinateSystemTranslatorImpl.K0;
+import static org.codice.usng4j.impl.CoordinateSystemTranslatorImpl.NORTHING_OFFSET;
+import static org.codice.usng4j.impl.CoordinateSystemTranslatorImpl.RAD_2_DEG;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.codice.usng4j.NSIndicator;
+
+/**
+ * The Snyder series batch projection written with the incubating vector API, so that each step
+ * works on as many points as the CPU has double lanes. It evaluates the same series as {@link
+ * CoordinateSystemTranslatorImpl}, with the multiple angle sines expanded into products of one sine
+ * and cosine; results agree with the scalar code to within a few nanometers. The last partial
+ * vector is processed with a lane mask, so every point goes through the same lane-wise arithmetic
+ * and the result for a point does not depend on the offset or length of the batch.
+ *
+ * <p>This class is only loaded on Java 17 or later with {@code --add-modules jdk.incubator.vector}.
+ */
+final class VectorBatchProjection implements BatchProjection {
+  private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+  private static final int LANES = SPECIES.length();
+
+  VectorBatchProjection() {
+    // warm the species so that a broken vector runtime fails here rather than mid-batch
+    DoubleVector.zero(SPECIES).lanewise(VectorOperators.SIN);
+  }
+
+  @Override
+  public int toUtm(
+      final Ellipsoid ellipsoid,
+      final double[] lats,
+      final double[] lons,
+      final int[] zoneNumbers,
+      final double[] eastings,
+      final double[] northings,
+      final int offset,
+      final int length) {
+    final int end = offset + length;
+    final double[] lonOrigins = new double[LANES];
+
+    final double a = ellipsoid.getEquatorialRadius();
+    final double eccSquared = ellipsoid.getEccSquared();
+    final double eccPrimeSquared = ellipsoid.eccPrimeSquared;
+    final DoubleVector radius = DoubleVector.broadcast(SPECIES, a);
+
+    for (int i = offset; i < end; i += LANES) {
+      final VectorMask<Double> mask = SPECIES.indexInRange(i, end);
+      final int lanes = Math.min(LANES, end - i);
+
+      for (int lane = 0; lane < lanes; lane++) {
+        lonOrigins[lane] = (zoneNumbers[i + lane] - 1) * 6 - 180 + 3;
+      }
+
+      final DoubleVector lat = DoubleVector.fromArray(SPECIES, lats, i, mask);
+      final DoubleVector lon = DoubleVector.fromArray(SPECIES, lons, i, mask);
+
+      // move 0-360 longitudes into -180..180
+      final DoubleVector shifted = lon.add(180);
+      final VectorMask<Double> wrap = shifted.div(360).compare(VectorOperators.GE, 1.0);
+      final DoubleVector lonTemp = shifted.sub(360, wrap).sub(180);
+
+      final DoubleVector latRad = lat.mul(DEG_2_RAD);
+      final DoubleVector lonRad = lonTemp.mul(DEG_2_RAD);
+      final DoubleVector lonOriginRad =
+          DoubleVector.fromArray(SPECIES, lonOrigins, 0).mul(DEG_2_RAD);
+
+      final DoubleVector sinLat = latRad.lanewise(VectorOperators.SIN);
+      final DoubleVector cosLat = latRad.lanewise(VectorOperators.COS);
+      final DoubleVector tanLat = sinLat.div(cosLat);
+
+      final DoubleVector n =
+          radius.div(sinLat.mul(sinLat).mul(-eccSquared).add(1).lanewise(VectorOperators.SQRT));
+      final DoubleVector t = tanLat.mul(tanLat);
+      final DoubleVector c = cosLat.mul(cosLat).mul(eccPrimeSquared);
+      final DoubleVector aa = cosLat.mul(lonRad.sub(lonOriginRad));
+
+      // sin(2x), sin(4x) and sin(6x) from sin(x) and cos(x)
+      final DoubleVector sin2 = sinLat.mul(cosLat).mul(2);
+      final DoubleVector cos2 = cosLat.mul(cosLat).sub(sinLat.mul(sinLat));
+      final DoubleVector sin4 = sin2.mul(cos2).mul(2);
+      final DoubleVector cos4 = sin2.mul(sin2).mul(-2).add(1);
+      final DoubleVector sin6 = sin4.mul(cos2).add(cos4.mul(sin2));
+
+      final DoubleVector m =
+          latRad
+              .mul(ellipsoid.meridianArc0)
+              .sub(sin2.mul(ellipsoid.meridianArc2))
+              .add(sin4.mul(ellipsoid.meridianArc4))
+              .sub(sin6.mul(ellipsoid.meridianArc6))
+              .mul(a);
+
+      final DoubleVector a2 = aa.mul(aa);
+      final DoubleVector a3 = a2.mul(aa);
+      final DoubleVector a4 = a2.mul(a2);
+
+      // (1 - T + C) * A^3 / 6 + (5 - 18T + T^2 + 72C - 58e'^2) * A^5 / 120
+      final DoubleVector eastingSeries =
+          aa.add(t.neg().add(1).add(c).mul(a3).div(6))
+              .add(
+                  t.mul(-18)
+                      .add(5)
+                      .add(t.mul(t))
+                      .add(c.mul(72))
+                      .sub(58 * eccPrimeSquared)
+                      .mul(a3.mul(a2))
+                      .div(120));
+
+      // A^2 / 2 + (5 - T + 9C + 4C^2) * A^4 / 24 + (61 - 58T + T^2 + 600C - 330e'^2) * A^6 / 720
+      final DoubleVector northingSeries =
+          a2.div(2)
+              .add(t.neg().add(5).add(c.mul(9)).add(c.mul(c).mul(4)).mul(a4).div(24))
+              .add(
+                  t.mul(-58)
+                      .add(61)
+                      .add(t.mul(t))
+                      .add(c.mul(600))
+                      .sub(330 * eccPrimeSquared)
+                      .mul(a4.mul(a2))
+                      .div(720));
+
+      n.mul(eastingSeries).mul(K0).add(EASTING_OFFSET).intoArray(eastings, i, mask);
+      n.mul(tanLat).mul(northingSeries).add(m).mul(K0).intoArray(northings, i, mask);
+    }
+
+    return length;
+  }
+
+  @Override
+  public int toLatLon(
+      final Ellipsoid ellipsoid,
+      final int[] zoneNumbers,
+      final NSIndicator[] nsIndicators,
+      final double[] eastings,
+      final double[] northings,
+      final double[] lats,
+      final double[] lons,
+      final int offset,
+      final int length) {
+    final int end = offset + length;
+    final double[] lonOrigins = new double[LANES];
+    final double[] northingOffsets = new double[LANES];
+
+    final double eccSquared = ellipsoid.getEccSquared();
+    final double eccPrimeSquared = ellipsoid.eccPrimeSquared;
+    final DoubleVector radius = DoubleVector.broadcast(SPECIES, ellipsoid.getEquatorialRadius());
+    final DoubleVector meridionalRadiusNumerator =
+        DoubleVector.broadcast(SPECIES, ellipsoid.meridionalRadiusNumerator);
+
+    for (int i = offset; i < end; i += LANES) {
+      final VectorMask<Double> mask = SPECIES.indexInRange(i, end);
+      final int lanes = Math.min(LANES, end - i);
+
+      for (int lane = 0; lane < lanes; lane++) {
+        lonOrigins[lane] = (zoneNumbers[i + lane] - 1) * 6 - 180 + 3;
+        northingOffsets[lane] = nsIndicators[i + lane] == SOUTH ? NORTHING_OFFSET : 0;
+      }
+
+      final DoubleVector x = DoubleVector.fromArray(SPECIES, eastings, i, mask).sub(EASTING_OFFSET);
+      final DoubleVector y =
+          DoubleVector.fromArray(SPECIES, northings, i, mask)
+              .sub(DoubleVector.fromArray(SPECIES, northingOffsets, 0));
+
+      final DoubleVector mu = y.div(K0).div(ellipsoid.rectifyingRadius);
+      final DoubleVector sinMu = mu.lanewise(VectorOperators.SIN);
+      final DoubleVector cosMu = mu.lanewise(VectorOperators.COS);
+      final DoubleVector sin2 = sinMu.mul(cosMu).mul(2);
+      final DoubleVector cos2 = cosMu.mul(cosMu).sub(sinMu.mul(sinMu));
+      final DoubleVector sin4 = sin2.mul(cos2).mul(2);
+      final DoubleVector cos4 = sin2.mul(sin2).mul(-2).add(1);
+      final DoubleVector sin6 = sin4.mul(cos2).add(cos4.mul(sin2));
+
+      // the footprint latitude
+      final DoubleVector phi1 =
+          mu.add(sin2.mul(ellipsoid.footprint2))
+              .add(sin4.mul(ellipsoid.footprint4))
+              .add(sin6.mul(ellipsoid.footprint6));
+      final DoubleVector sinPhi1 = phi1.lanewise(VectorOperators.SIN);
+      final DoubleVector cosPhi1 = phi1.lanewise(VectorOperators.COS);
+      final DoubleVector tanPhi1 = sinPhi1.div(cosPhi1);
+
+      final DoubleVector w = sinPhi1.mul(sinPhi1).mul(-eccSquared).add(1);
+      final DoubleVector sqrtW = w.lanewise(VectorOperators.SQRT);
+      final DoubleVector n1 = radius.div(sqrtW);
+      final DoubleVector t1 = tanPhi1.mul(tanPhi1);
+      final DoubleVector c1 = cosPhi1.mul(cosPhi1).mul(eccPrimeSquared);
+      final DoubleVector r1 = meridionalRadiusNumerator.div(w.mul(sqrtW));
+      final DoubleVector d = x.div(n1.mul(K0));
+      final DoubleVector d2 = d.mul(d);
+      final DoubleVector d4 = d2.mul(d2);
+
+      // D^2 / 2 - (5 + 3T + 10C - 4C^2 - 9e'^2) * D^4 / 24
+      //   + (61 + 90T + 298C + 45T^2 - 252e'^2 - 3C^2) * D^6 / 720
+      final DoubleVector latSeries =
+          d2.div(2)
+              .sub(
+                  t1.mul(3)
+                      .add(5)
+                      .add(c1.mul(10))
+                      .sub(c1.mul(c1).mul(4))
+                      .sub(9 * eccPrimeSquared)
+                      .mul(d4)
+                      .div(24))
+              .add(
+                  t1.mul(90)
+                      .add(61)
+                      .add(c1.mul(298))
+                      .add(t1.mul(t1).mul(45))
+                      .sub(252 * eccPrimeSquared)
+                      .sub(c1.mul(c1).mul(3))
+                      .mul(d4.mul(d2))
+                      .div(720));
+      final DoubleVector lat = phi1.sub(n1.mul(tanPhi1).div(r1).mul(latSeries)).mul(RAD_2_DEG);
+
+      // D - (1 + 2T + C) * D^3 / 6 + (5 - 2C + 28T - 3C^2 + 8e'^2 + 24T^2) * D^5 / 120
+      final DoubleVector lonSeries =
+          d.sub(t1.mul(2).add(1).add(c1).mul(d2.mul(d)).div(6))
+              .add(
+                  c1.mul(-2)
+                      .add(5)
+                      .add(t1.mul(28))
+                      .sub(c1.mul(c1).mul(3))
+                      .add(8 * eccPrimeSquared)
+                      .add(t1.mul(t1).mul(24))
+                      .mul(d4.mul(d))
+                      .div(120));
+
+      // the scalar code reports the equator as 0.001 degrees
+      lat.blend(0.001, lat.compare(VectorOperators.EQ, 0)).intoArray(lats, i, mask);
+      lonSeries
+          .div(cosPhi1)
+          .mul(RAD_2_DEG)
+          .add(DoubleVector.fromArray(SPECIES, lonOrigins, 0))
+          .intoArray(lons, i, mask);
+    }
+
+    return length;
+  }
+}
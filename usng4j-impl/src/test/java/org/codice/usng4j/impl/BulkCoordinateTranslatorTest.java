@@ -0,0 +1,202 @@
+package org.codice.usng4j.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ForkJoinPool;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.NSIndicator;
+import org.junit.Test;
+
+public class BulkCoordinateTranslatorTest {
+  private static final int COUNT = 10_007;
+
+  private final CoordinateSystemTranslatorImpl translator = new CoordinateSystemTranslatorImpl();
+
+  private final double[] lats = new double[COUNT];
+
+  private final double[] lons = new double[COUNT];
+
+  public BulkCoordinateTranslatorTest() {
+    for (int i = 0; i < COUNT; i++) {
+      lats[i] = -80 + (i * 163.9) / COUNT;
+      lons[i] = -180 + ((i * 7919L) % COUNT) * 359.9 / COUNT;
+    }
+  }
+
+  @Test
+  public void testResultsDoNotDependOnPoolOrChunkSize() {
+    final int[] expectedZones = new int[COUNT];
+    final double[] expectedEastings = new double[COUNT];
+    final double[] expectedNorthings = new double[COUNT];
+    final double[] expectedLats = new double[COUNT];
+    final double[] expectedLons = new double[COUNT];
+    final NSIndicator[] nsIndicators = new NSIndicator[COUNT];
+    translator.toUtm(lats, lons, expectedZones, expectedEastings, expectedNorthings);
+    translator.toLatLon(
+        expectedZones,
+        nsIndicators,
+        expectedEastings,
+        expectedNorthings,
+        expectedLats,
+        expectedLons);
+
+    for (int parallelism : new int[] {1, 4}) {
+      final ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+      try {
+        for (int chunkSize : new int[] {1, 7, 1000, COUNT * 2}) {
+          final BulkCoordinateTranslator bulkTranslator =
+              new BulkCoordinateTranslator(translator, pool, chunkSize);
+          final int[] zones = new int[COUNT];
+          final double[] eastings = new double[COUNT];
+          final double[] northings = new double[COUNT];
+          final double[] roundTripLats = new double[COUNT];
+          final double[] roundTripLons = new double[COUNT];
+
+          bulkTranslator.toUtm(lats, lons, zones, eastings, northings);
+          bulkTranslator.toLatLon(
+              zones, nsIndicators, eastings, northings, roundTripLats, roundTripLons);
+
+          assertArrayEquals(expectedZones, zones);
+          assertArrayEquals(expectedEastings, eastings, 0);
+          assertArrayEquals(expectedNorthings, northings, 0);
+          assertArrayEquals(expectedLats, roundTripLats, 0);
+          assertArrayEquals(expectedLons, roundTripLons, 0);
+        }
+      } finally {
+        pool.shutdown();
+      }
+    }
+  }
+
+  @Test
+  public void testNsIndicators() {
+    final int[] zones = new int[COUNT];
+    final NSIndicator[] nsIndicators = new NSIndicator[COUNT];
+    final double[] eastings = new double[COUNT];
+    final double[] northings = new double[COUNT];
+    final double[] roundTripLats = new double[COUNT];
+    final double[] roundTripLons = new double[COUNT];
+    final ForkJoinPool pool = new ForkJoinPool(4);
+
+    try {
+      final BulkCoordinateTranslator bulkTranslator =
+          new BulkCoordinateTranslator(translator, pool, 1000);
+      bulkTranslator.toUtm(lats, lons, zones, eastings, northings);
+
+      // southern points carry the false northing, northern points alternate NORTH and null
+      for (int i = 0; i < COUNT; i++) {
+        if (lats[i] < 0) {
+          nsIndicators[i] = NSIndicator.SOUTH;
+          northings[i] += CoordinateSystemTranslatorImpl.NORTHING_OFFSET;
+        } else if (i % 2 == 0) {
+          nsIndicators[i] = NSIndicator.NORTH;
+        }
+      }
+
+      bulkTranslator.toLatLon(
+          zones, nsIndicators, eastings, northings, roundTripLats, roundTripLons);
+    } finally {
+      pool.shutdown();
+    }
+
+    for (int i = 0; i < COUNT; i++) {
+      final DecimalDegreesCoordinate expected =
+          translator.toLatLon(
+              nsIndicators[i] == null
+                  ? new UtmCoordinateImpl(zones[i], eastings[i], northings[i])
+                  : new UtmCoordinateImpl(zones[i], eastings[i], northings[i], nsIndicators[i]));
+      assertEquals(expected.getLat(), roundTripLats[i], 0);
+      assertEquals(expected.getLon(), roundTripLons[i], 0);
+      assertEquals(lats[i], roundTripLats[i], 0.0001);
+    }
+  }
+
+  @Test
+  public void testChunkSizeNearIntegerMaxValue() {
+    final String[] mgrsStrings = {"18SUJ2348706483", "not mgrs", "12SVC1290043292"};
+    final double[] parsedLats = new double[3];
+    final double[] parsedLons = new double[3];
+
+    assertThat(
+        new BulkCoordinateTranslator(translator, ForkJoinPool.commonPool(), Integer.MAX_VALUE)
+            .parseMgrsStrings(mgrsStrings, parsedLats, parsedLons),
+        is(1));
+    assertEquals(38.8895, parsedLats[0], 0.0001);
+    assertThat(Double.isNaN(parsedLats[1]), is(true));
+  }
+
+  @Test
+  public void testMgrsStrings() {
+    final BulkCoordinateTranslator bulkTranslator =
+        new BulkCoordinateTranslator(translator, ForkJoinPool.commonPool(), 500);
+    final String[] mgrsStrings = new String[COUNT];
+    final double[] parsedLats = new double[COUNT];
+    final double[] parsedLons = new double[COUNT];
+
+    bulkTranslator.toMgrsStrings(lats, lons, CoordinatePrecision.ONE_METER, mgrsStrings);
+
+    for (int i = 0; i < COUNT; i += 97) {
+      assertThat(
+          mgrsStrings[i],
+          is(translator.toUsng(new DecimalDegreesCoordinateImpl(lats[i], lons[i])).toMgrsString()));
+    }
+
+    mgrsStrings[3] = "not mgrs";
+    mgrsStrings[4] = null;
+    assertThat(bulkTranslator.parseMgrsStrings(mgrsStrings, parsedLats, parsedLons), is(2));
+    assertThat(Double.isNaN(parsedLats[3]) && Double.isNaN(parsedLons[4]), is(true));
+
+    for (int i = 5; i < COUNT; i++) {
+      assertEquals(lats[i], parsedLats[i], 0.0001);
+    }
+  }
+
+  @Test
+  public void testLowestInvalidPointIsReported() {
+    final double[] invalidLats = lats.clone();
+    invalidLats[9000] = 86;
+    invalidLats[5000] = 85;
+    final ForkJoinPool pool = new ForkJoinPool(4);
+
+    try {
+      new BulkCoordinateTranslator(translator, pool, 100)
+          .toUtm(invalidLats, lons, new int[COUNT], new double[COUNT], new double[COUNT]);
+      fail("latitude 85 is not valid UTM");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage().contains("85.0"), is(true));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testShortArrayIsNamed() {
+    final BulkCoordinateTranslator bulkTranslator = new BulkCoordinateTranslator(translator);
+
+    try {
+      bulkTranslator.toUtm(lats, lons, new int[COUNT], new double[COUNT], new double[COUNT - 1]);
+      fail("northings is too short");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage().contains("'northings'"), is(true));
+    }
+
+    try {
+      bulkTranslator.toUtm(
+          lats, new double[COUNT - 1], new int[COUNT], new double[COUNT], new double[COUNT]);
+      fail("lons is too short");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage().contains("'lons'"), is(true));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidChunkSize() {
+    new BulkCoordinateTranslator(translator, ForkJoinPool.commonPool(), 0);
+  }
+}
@@ -0,0 +1,238 @@
+package org.codice.usng4j.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.ParseResult;
+import org.codice.usng4j.UsngCoordinate;
+import org.junit.Test;
+
+public class CachingCoordinateSystemTranslatorTest {
+  private final CoordinateSystemTranslatorImpl translator = new CoordinateSystemTranslatorImpl();
+
+  @Test
+  public void testRepeatedParsesAreAnsweredFromCache() throws ParseException {
+    final CachingCoordinateSystemTranslator cachingTranslator =
+        new CachingCoordinateSystemTranslator(
+            translator, CachingCoordinateSystemTranslator.DEFAULT_MAXIMUM_SIZE, true);
+
+    final UsngCoordinate first = cachingTranslator.parseMgrsString("18SUJ2348706483");
+    final UsngCoordinate second = cachingTranslator.parseMgrsString("18SUJ2348706483");
+
+    assertThat(second, sameInstance(first));
+    assertEquals(translator.parseMgrsString("18SUJ2348706483"), first);
+    assertThat(cachingTranslator.getMissCount(), is(1L));
+    assertThat(cachingTranslator.getHitCount(), is(1L));
+
+    // the same string parsed as USNG is a separate entry
+    assertEquals(first, cachingTranslator.parseUsngString("18SUJ2348706483"));
+    assertThat(cachingTranslator.getMissCount(), is(2L));
+    assertThat(cachingTranslator.size(), is(2));
+  }
+
+  @Test
+  public void testParsesAreNotCachedByDefault() throws ParseException {
+    final CachingCoordinateSystemTranslator cachingTranslator =
+        new CachingCoordinateSystemTranslator(translator);
+
+    assertThat(cachingTranslator.isCachingParses(), is(false));
+    assertEquals(
+        translator.parseMgrsString("18SUJ2348706483"),
+        cachingTranslator.parseMgrsString("18SUJ2348706483"));
+    assertThat(
+        cachingTranslator.tryParseUsngString("18S UJ 23487 06483").getValue(),
+        is(translator.parseUsngString("18S UJ 23487 06483")));
+    cachingTranslator.parseUtmUpsString("18S 323487 4306483");
+    assertThat(cachingTranslator.size(), is(0));
+    assertThat(cachingTranslator.getHitCount() + cachingTranslator.getMissCount(), is(0L));
+  }
+
+  @Test
+  public void testToUsngIsKeyedOnExactPointAndPrecision() {
+    final CachingCoordinateSystemTranslator cachingTranslator =
+        new CachingCoordinateSystemTranslator(translator);
+    final DecimalDegreesCoordinate point = new DecimalDegreesCoordinateImpl(38.8895, -77.0352);
+    final DecimalDegreesCoordinate nextPoint =
+        new DecimalDegreesCoordinateImpl(38.8895, Math.nextUp(-77.0352));
+
+    for (CoordinatePrecision precision : CoordinatePrecision.values()) {
+      assertEquals(translator.toUsng(point, precision), cachingTranslator.toUsng(point, precision));
+    }
+
+    assertEquals(translator.toUsng(point), cachingTranslator.toUsng(point));
+    assertEquals(translator.toUsng(nextPoint), cachingTranslator.toUsng(nextPoint));
+    assertThat(cachingTranslator.size(), is(CoordinatePrecision.values().length + 2));
+
+    assertThat(
+        cachingTranslator.toUsng(
+            new DecimalDegreesCoordinateImpl(38.8895, -77.0352), CoordinatePrecision.ONE_METER),
+        sameInstance(cachingTranslator.toUsng(point, CoordinatePrecision.ONE_METER)));
+    assertThat(cachingTranslator.getHitCount(), is(2L));
+  }
+
+  @Test
+  public void testLeastRecentlyUsedResultsAreEvicted() throws ParseException {
+    final CachingCoordinateSystemTranslator cachingTranslator =
+        new CachingCoordinateSystemTranslator(translator, 40, true);
+
+    for (int i = 0; i < 1000; i++) {
+      cachingTranslator.parseUsngString(String.format("18S UJ %03d %03d", i, i));
+      assertThat(cachingTranslator.size() <= 40, is(true));
+    }
+
+    assertThat(cachingTranslator.getEvictionCount(), is(1000L - cachingTranslator.size()));
+
+    cachingTranslator.clear();
+    assertThat(cachingTranslator.size(), is(0));
+    assertThat(cachingTranslator.getMissCount(), is(1000L));
+  }
+
+  @Test
+  public void testFailuresAreOnlyCachedAsParseResults() {
+    final CachingCoordinateSystemTranslator cachingTranslator =
+        new CachingCoordinateSystemTranslator(
+            translator, CachingCoordinateSystemTranslator.DEFAULT_MAXIMUM_SIZE, true);
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        cachingTranslator.parseMgrsString("18SUJ234870648");
+        fail("an odd number of digits is not valid MGRS");
+      } catch (ParseException e) {
+        // expected
+      }
+    }
+
+    assertThat(cachingTranslator.size(), is(0));
+
+    final ParseResult<UsngCoordinate> result =
+        cachingTranslator.tryParseMgrsString("18SUJ234870648");
+    assertThat(result.isSuccess(), is(false));
+    assertThat(cachingTranslator.tryParseMgrsString("18SUJ234870648"), sameInstance(result));
+    assertThat(cachingTranslator.getHitCount(), is(1L));
+  }
+
+  @Test
+  public void testConcurrentCallersSeeDelegateResults() throws Exception {
+    final CachingCoordinateSystemTranslator cachingTranslator =
+        new CachingCoordinateSystemTranslator(translator, 100, true);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+
+      for (int thread = 0; thread < 4; thread++) {
+        final int seed = thread;
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 20_000; i++) {
+                    final int cell = (i * 7 + seed) % 300;
+                    final String mgrs = String.format("12SVC%02d%02d", cell / 10, cell % 10);
+                    assertEquals(
+                        translator.parseMgrsString(mgrs), cachingTranslator.parseMgrsString(mgrs));
+                  }
+
+                  return null;
+                }));
+      }
+
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(cachingTranslator.size() <= 100, is(true));
+    assertThat(cachingTranslator.getHitCount() + cachingTranslator.getMissCount(), is(80_000L));
+  }
+
+  @Test
+  public void testOneFullStripeSpreadsOverItsBucketsAndHitsQuickly() throws ParseException {
+    final CachingCoordinateSystemTranslator cachingTranslator =
+        new CachingCoordinateSystemTranslator(
+            translator, CachingCoordinateSystemTranslator.DEFAULT_MAXIMUM_SIZE, true);
+    // 16 stripes share the default size evenly
+    final String[] strings =
+        new String[CachingCoordinateSystemTranslator.DEFAULT_MAXIMUM_SIZE / 16];
+    // a LinkedHashMap picks the bucket of a key from (h ^ (h >>> 16)) & (tableSize - 1)
+    final int tableSize = 1024;
+    final boolean[] used = new boolean[tableSize];
+
+    for (int i = 0, keys = 0; keys < strings.length; i++) {
+      final String string = String.format("18SUJ%04d%04d", i % 10_000, i / 10_000);
+      // the hash code of the cache key of a parseMgrsString call
+      final int hash = 31 * 3 + string.hashCode();
+      if (CachingCoordinateSystemTranslator.stripeIndex(hash, 16) == 0) {
+        strings[keys++] = string;
+        used[(hash ^ (hash >>> 16)) & (tableSize - 1)] = true;
+        cachingTranslator.parseMgrsString(string);
+      }
+    }
+
+    assertThat(cachingTranslator.size(), is(strings.length));
+    assertThat(cachingTranslator.getEvictionCount(), is(0L));
+
+    int usedBuckets = 0;
+    for (boolean bucket : used) {
+      usedBuckets += bucket ? 1 : 0;
+    }
+
+    // uniformly hashed keys at a 0.6 load factor fill about 45% of the buckets
+    assertThat(String.valueOf(usedBuckets), usedBuckets > tableSize / 3, is(true));
+
+    // the best of several rounds, so that JIT compilation and GC pauses don't decide the outcome
+    long cached = Long.MAX_VALUE;
+    long uncached = Long.MAX_VALUE;
+    for (int round = 0; round < 20; round++) {
+      long start = System.nanoTime();
+      for (String string : strings) {
+        cachingTranslator.parseMgrsString(string);
+      }
+      cached = Math.min(cached, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      for (String string : strings) {
+        translator.parseMgrsString(string);
+      }
+      uncached = Math.min(uncached, System.nanoTime() - start);
+    }
+
+    assertThat(cachingTranslator.getMissCount(), is((long) strings.length));
+    assertThat(
+        String.format("cached %d ns, uncached %d ns", cached, uncached),
+        cached < uncached,
+        is(true));
+  }
+
+  @Test
+  public void testStripeIndexIsInRange() {
+    for (int stripeCount = 1; stripeCount <= 16; stripeCount *= 2) {
+      for (int hash : new int[] {0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+        final int index = CachingCoordinateSystemTranslator.stripeIndex(hash, stripeCount);
+        assertThat(index >= 0 && index < stripeCount, is(true));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaximumSize() {
+    new CachingCoordinateSystemTranslator(translator, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullTranslator() {
+    new CachingCoordinateSystemTranslator(null);
+  }
+}
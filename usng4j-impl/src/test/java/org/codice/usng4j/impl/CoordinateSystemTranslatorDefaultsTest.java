@@ -0,0 +1,266 @@
+package org.codice.usng4j.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.stream.Collectors;
+import org.codice.usng4j.BoundingBox;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.NSIndicator;
+import org.codice.usng4j.ParseErrorCode;
+import org.codice.usng4j.ParseResult;
+import org.codice.usng4j.UpsCoordinate;
+import org.codice.usng4j.UsngCoordinate;
+import org.codice.usng4j.UtmCoordinate;
+import org.codice.usng4j.UtmUpsCoordinate;
+import org.junit.Test;
+
+public class CoordinateSystemTranslatorDefaultsTest {
+  private final CoordinateSystemTranslatorImpl translator = new CoordinateSystemTranslatorImpl();
+
+  /** Implements only the methods of the first release, so it relies on every default method. */
+  private final CoordinateSystemTranslator original = new OriginalTranslator(translator);
+
+  @Test
+  public void testBatchConversionsMatchTheImplementation() {
+    final double[] lats = {38.8895, -33.9, 0.5, 71.2};
+    final double[] lons = {-77.0352, 18.4, 6.1, 25.7};
+    final int[] zoneNumbers = new int[4];
+    final double[] eastings = new double[4];
+    final double[] northings = new double[4];
+    final int[] expectedZoneNumbers = new int[4];
+    final double[] expectedEastings = new double[4];
+    final double[] expectedNorthings = new double[4];
+
+    original.toUtm(lats, lons, zoneNumbers, eastings, northings);
+    translator.toUtm(lats, lons, expectedZoneNumbers, expectedEastings, expectedNorthings);
+    assertArrayEquals(expectedZoneNumbers, zoneNumbers);
+    assertArrayEquals(expectedEastings, eastings, 0);
+    assertArrayEquals(expectedNorthings, northings, 0);
+
+    final NSIndicator[] nsIndicators = {NSIndicator.NORTH, NSIndicator.SOUTH, null, null};
+    northings[1] += CoordinateSystemTranslatorImpl.NORTHING_OFFSET;
+    final double[] roundTripLats = new double[4];
+    final double[] roundTripLons = new double[4];
+    final double[] expectedLats = new double[4];
+    final double[] expectedLons = new double[4];
+
+    original.toLatLon(zoneNumbers, nsIndicators, eastings, northings, roundTripLats, roundTripLons);
+    translator.toLatLon(zoneNumbers, nsIndicators, eastings, northings, expectedLats, expectedLons);
+    assertArrayEquals(expectedLats, roundTripLats, 0);
+    assertArrayEquals(expectedLons, roundTripLons, 0);
+
+    try {
+      original.toUtm(lats, lons, zoneNumbers, eastings, northings, 1, Integer.MAX_VALUE);
+      fail("the range does not fit the arrays");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testStringWritersMatchTheImplementation() throws Exception {
+    final char[] chars = new char[20];
+    final ByteBuffer bytes = ByteBuffer.allocate(20);
+    final StringBuilder appended = new StringBuilder();
+
+    for (CoordinatePrecision precision : CoordinatePrecision.values()) {
+      final UsngCoordinate expected =
+          translator.toUsng(new DecimalDegreesCoordinateImpl(-33.9, 18.4), precision);
+
+      assertEquals(
+          expected.toMgrsString(),
+          new String(chars, 1, original.writeMgrsString(-33.9, 18.4, precision, chars, 1)));
+
+      bytes.clear();
+      final int length = original.writeUsngString(-33.9, 18.4, precision, bytes);
+      assertEquals(
+          expected.toString(), new String(bytes.array(), 0, length, StandardCharsets.US_ASCII));
+
+      appended.setLength(0);
+      original.appendMgrsString(-33.9, 18.4, precision, appended);
+      original.appendUsngString(-33.9, 18.4, precision, appended);
+      assertEquals(expected.toMgrsString() + expected, appended.toString());
+
+      assertEquals(
+          translator
+              .toUsngAtEveryPrecision(new DecimalDegreesCoordinateImpl(-33.9, 18.4))[
+              precision.ordinal()],
+          original
+              .toUsngAtEveryPrecision(new DecimalDegreesCoordinateImpl(-33.9, 18.4))[
+              precision.ordinal()]);
+    }
+
+    try {
+      original.writeMgrsString(-33.9, 18.4, CoordinatePrecision.ONE_METER, new char[14], 0);
+      fail("15 characters do not fit in 14");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+
+    try {
+      original.writeUsngString(-33.9, 18.4, CoordinatePrecision.ONE_METER, ByteBuffer.allocate(5));
+      fail("18 bytes do not fit in 5");
+    } catch (BufferOverflowException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testTryParseWrapsTheThrowingParsers() {
+    assertEquals(
+        translator.tryParseMgrsString("18SUJ2348706483").getValue(),
+        original.tryParseMgrsString("18SUJ2348706483").getValue());
+    assertEquals(
+        translator.tryParseUsngString("18S UJ 23487 06483").getValue(),
+        original
+            .tryParseUsngString(
+                ByteBuffer.wrap("18S UJ 23487 06483".getBytes(StandardCharsets.US_ASCII)))
+            .getValue());
+    assertEquals(
+        translator.tryParseUtmUpsString("18S 323487 4306483").getValue(),
+        original
+            .tryParseUtmUpsString("<18S 323487 4306483>".getBytes(StandardCharsets.US_ASCII), 1, 18)
+            .getValue());
+
+    final ParseResult<UsngCoordinate> failure = original.tryParseMgrsString("18SUJ234870648");
+    assertThat(failure.isSuccess(), is(false));
+    assertThat(failure.getErrorCode(), is(ParseErrorCode.UNEXPECTED_CHARACTER));
+    assertThat(
+        original.tryParseUtmUpsString("5Z 000001 2199600").getErrorCode(),
+        is(ParseErrorCode.INVALID_COORDINATE));
+  }
+
+  @Test
+  public void testParentsAndChildrenMatchTheImplementation() throws ParseException {
+    final UsngCoordinate usng = translator.parseUsngString("18S UJ 23487 06483");
+
+    for (CoordinatePrecision precision : CoordinatePrecision.values()) {
+      assertEquals(
+          translator.toUsngParent(usng, precision), original.toUsngParent(usng, precision));
+    }
+
+    for (String cell : new String[] {"18S UJ", "18S UJ 2 0", "18S UJ 234 064"}) {
+      final UsngCoordinate parent = translator.parseUsngString(cell);
+      for (CoordinatePrecision precision : CoordinatePrecision.values()) {
+        if (precision.compareTo(parent.getPrecision()) >= 0
+            && precision.getIntValue() - parent.getPrecision().getIntValue() <= 2) {
+          assertEquals(
+              translator.toUsngChildren(parent, precision).collect(Collectors.toList()),
+              original.toUsngChildren(parent, precision).collect(Collectors.toList()));
+        }
+      }
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testCellsAreNotSupportedByDefault() {
+    original.toUsngCells(
+        new BoundingBoxImpl(38.9, 38.8, -77.1, -77.0), CoordinatePrecision.ONE_KILOMETER);
+  }
+
+  /** A translator written against the first release of the interface. */
+  private static final class OriginalTranslator implements CoordinateSystemTranslator {
+    private final CoordinateSystemTranslator translator;
+
+    OriginalTranslator(final CoordinateSystemTranslator translator) {
+      this.translator = translator;
+    }
+
+    @Override
+    public UsngCoordinate toUsng(final BoundingBox latLonCoordinate) {
+      return translator.toUsng(latLonCoordinate);
+    }
+
+    @Override
+    public UtmCoordinate toUtm(final DecimalDegreesCoordinate decimalDegreesCoordinate) {
+      return translator.toUtm(decimalDegreesCoordinate);
+    }
+
+    @Override
+    public UpsCoordinate toUps(final DecimalDegreesCoordinate decimalDegreesCoordinate) {
+      return translator.toUps(decimalDegreesCoordinate);
+    }
+
+    @Override
+    public UtmUpsCoordinate toUtmUps(final DecimalDegreesCoordinate decimalDegreesCoordinate) {
+      return translator.toUtmUps(decimalDegreesCoordinate);
+    }
+
+    @Override
+    public UsngCoordinate toUsng(final DecimalDegreesCoordinate decimalDegreesCoordinate) {
+      return translator.toUsng(decimalDegreesCoordinate);
+    }
+
+    @Override
+    public UsngCoordinate toUsng(
+        final DecimalDegreesCoordinate decimalDegreesCoordinate,
+        final CoordinatePrecision coordinatePrecision) {
+      return translator.toUsng(decimalDegreesCoordinate, coordinatePrecision);
+    }
+
+    @Override
+    public BoundingBox toBoundingBox(final UtmCoordinate utmCoordinate) {
+      return translator.toBoundingBox(utmCoordinate);
+    }
+
+    @Override
+    public DecimalDegreesCoordinate toLatLon(final UtmCoordinate utmCoordinate) {
+      return translator.toLatLon(utmCoordinate);
+    }
+
+    @Override
+    public DecimalDegreesCoordinate toLatLon(final UpsCoordinate upsCoordinate) {
+      return translator.toLatLon(upsCoordinate);
+    }
+
+    @Override
+    public DecimalDegreesCoordinate toLatLon(final UtmUpsCoordinate utmUpsCoordinate) {
+      return translator.toLatLon(utmUpsCoordinate);
+    }
+
+    @Override
+    public UtmCoordinate toUtm(final UsngCoordinate usngCoordinate) {
+      return translator.toUtm(usngCoordinate);
+    }
+
+    @Override
+    public DecimalDegreesCoordinate toLatLon(final UsngCoordinate usngCoordinate) {
+      return translator.toLatLon(usngCoordinate);
+    }
+
+    @Override
+    public BoundingBox toBoundingBox(final UsngCoordinate usngCoordinate) {
+      return translator.toBoundingBox(usngCoordinate);
+    }
+
+    @Override
+    public UtmUpsCoordinate parseUtmUpsString(final String utmUpsString) throws ParseException {
+      return translator.parseUtmUpsString(utmUpsString);
+    }
+
+    @Override
+    public UtmCoordinate parseUtmString(final String utmString) throws ParseException {
+      return translator.parseUtmString(utmString);
+    }
+
+    @Override
+    public UsngCoordinate parseUsngString(final String usngString) throws ParseException {
+      return translator.parseUsngString(usngString);
+    }
+
+    @Override
+    public UsngCoordinate parseMgrsString(final String mgrsString) throws ParseException {
+      return translator.parseMgrsString(mgrsString);
+    }
+  }
+}
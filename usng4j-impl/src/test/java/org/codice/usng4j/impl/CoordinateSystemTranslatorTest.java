@@ -3,21 +3,35 @@ package org.codice.usng4j.impl;
 import static java.util.Optional.of;
 import static java.util.stream.Collectors.joining;
 import static org.codice.usng4j.impl.CoordinateSystemTranslatorImpl.NORTHING_OFFSET;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.NumberFormat;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.codice.usng4j.BoundingBox;
 import org.codice.usng4j.CoordinatePrecision;
 import org.codice.usng4j.DecimalDegreesCoordinate;
 import org.codice.usng4j.NSIndicator;
+import org.codice.usng4j.ParseErrorCode;
+import org.codice.usng4j.ParseResult;
 import org.codice.usng4j.UpsCoordinate;
 import org.codice.usng4j.UsngCoordinate;
 import org.codice.usng4j.UtmCoordinate;
@@ -88,47 +102,87 @@ public class CoordinateSystemTranslatorTest extends BaseClassForUsng4jTest {
   @Test
   public void testGetZoneLetterFromLat() {
     // around Arizona in the United States
-    assertEquals("S", coordinateSystemTranslator.getUtmLetterDesignator(34));
+    assertEquals('S', coordinateSystemTranslator.getUtmLetterDesignator(34));
     // around Prescott/Chino Valley in Arizona
-    assertEquals("S", coordinateSystemTranslator.getUtmLetterDesignator(34.5));
+    assertEquals('S', coordinateSystemTranslator.getUtmLetterDesignator(34.5));
     // immediately around Prescott city in Arizona
-    assertEquals("S", coordinateSystemTranslator.getUtmLetterDesignator(34.545));
+    assertEquals('S', coordinateSystemTranslator.getUtmLetterDesignator(34.545));
     // around Uruguay
-    assertEquals("H", coordinateSystemTranslator.getUtmLetterDesignator(-32.5));
+    assertEquals('H', coordinateSystemTranslator.getUtmLetterDesignator(-32.5));
     // around Buenos Aires city in Argentina
-    assertEquals("H", coordinateSystemTranslator.getUtmLetterDesignator(-34.5));
+    assertEquals('H', coordinateSystemTranslator.getUtmLetterDesignator(-34.5));
     // around Merlo town in Buenos Aires
-    assertEquals("H", coordinateSystemTranslator.getUtmLetterDesignator(-34.66));
+    assertEquals('H', coordinateSystemTranslator.getUtmLetterDesignator(-34.66));
     // around Madagascar
-    assertEquals("K", coordinateSystemTranslator.getUtmLetterDesignator(-18.5));
+    assertEquals('K', coordinateSystemTranslator.getUtmLetterDesignator(-18.5));
     // around Toliara city in Madagascar
-    assertEquals("K", coordinateSystemTranslator.getUtmLetterDesignator(-22.5));
+    assertEquals('K', coordinateSystemTranslator.getUtmLetterDesignator(-22.5));
     // around Toliara city center in Madagascar
-    assertEquals("K", coordinateSystemTranslator.getUtmLetterDesignator(-23.355));
+    assertEquals('K', coordinateSystemTranslator.getUtmLetterDesignator(-23.355));
     // around Central Japan
-    assertEquals("S", coordinateSystemTranslator.getUtmLetterDesignator(37));
+    assertEquals('S', coordinateSystemTranslator.getUtmLetterDesignator(37));
     // around Tokyo city in Japan
-    assertEquals("S", coordinateSystemTranslator.getUtmLetterDesignator(35.5));
+    assertEquals('S', coordinateSystemTranslator.getUtmLetterDesignator(35.5));
     // around Tokyo city center in Japan
-    assertEquals("S", coordinateSystemTranslator.getUtmLetterDesignator(35.69));
+    assertEquals('S', coordinateSystemTranslator.getUtmLetterDesignator(35.69));
     // around the equator
-    assertEquals("N", coordinateSystemTranslator.getUtmLetterDesignator(1));
+    assertEquals('N', coordinateSystemTranslator.getUtmLetterDesignator(1));
     // to the immediate south
-    assertEquals("M", coordinateSystemTranslator.getUtmLetterDesignator(-1));
+    assertEquals('M', coordinateSystemTranslator.getUtmLetterDesignator(-1));
     // with midpoint directly on it
-    assertEquals("N", coordinateSystemTranslator.getUtmLetterDesignator(0));
+    assertEquals('N', coordinateSystemTranslator.getUtmLetterDesignator(0));
     // imediately south of north polar maximum
-    assertEquals("X", coordinateSystemTranslator.getUtmLetterDesignator(83));
+    assertEquals('X', coordinateSystemTranslator.getUtmLetterDesignator(83));
     // imediately north of north polar maximum
-    assertEquals("Z", coordinateSystemTranslator.getUtmLetterDesignator(85));
+    assertEquals('Z', coordinateSystemTranslator.getUtmLetterDesignator(85));
     // directly on north polar maximum
-    assertEquals("X", coordinateSystemTranslator.getUtmLetterDesignator(84));
+    assertEquals('X', coordinateSystemTranslator.getUtmLetterDesignator(84));
     // imediately north of south polar minimum
-    assertEquals("C", coordinateSystemTranslator.getUtmLetterDesignator(-79));
+    assertEquals('C', coordinateSystemTranslator.getUtmLetterDesignator(-79));
     // imediately south of south polar minimum
-    assertEquals("Z", coordinateSystemTranslator.getUtmLetterDesignator(-81));
+    assertEquals('Z', coordinateSystemTranslator.getUtmLetterDesignator(-81));
     // directly on south polar minimum
-    assertEquals("C", coordinateSystemTranslator.getUtmLetterDesignator(-80));
+    assertEquals('C', coordinateSystemTranslator.getUtmLetterDesignator(-80));
+  }
+
+  @Test
+  public void testGetZoneLetterJustSouthOfBandEdges() {
+    // lat + 80 rounds up to the band edge for these
+    assertEquals('H', coordinateSystemTranslator.getUtmLetterDesignator(-32.000000000000014));
+    assertEquals('M', coordinateSystemTranslator.getUtmLetterDesignator(-1e-17));
+    assertEquals('M', coordinateSystemTranslator.getUtmLetterDesignator(-1e-20));
+    assertEquals('W', coordinateSystemTranslator.getUtmLetterDesignator(Math.nextDown(72.0)));
+    assertEquals('X', coordinateSystemTranslator.getUtmLetterDesignator(72));
+    assertEquals('Z', coordinateSystemTranslator.getUtmLetterDesignator(Math.nextUp(84.0)));
+    // NaN is outside of every band, like the latitudes beyond 80S and 84N
+    assertEquals('Z', coordinateSystemTranslator.getUtmLetterDesignator(Double.NaN));
+  }
+
+  @Test
+  public void testGetZoneNumberAroundNorwayAndSvalbard() {
+    for (double lat = 54; lat <= 84; lat += 0.25) {
+      for (double lon = -2; lon < 45; lon += 0.25) {
+        for (double dLat : new double[] {Math.ulp(lat), 0, -Math.ulp(lat)}) {
+          for (double dLon : new double[] {Math.ulp(lon), 0, -Math.ulp(lon)}) {
+            double pointLat = Math.min(84, lat + dLat);
+            // normalized like getZoneNumber, which may round to a whole degree
+            double pointLon = (lon + dLon + 180) - 180;
+            int zoneNumber = ((int) (pointLon + 180) / 6) + 1;
+
+            if (pointLat >= 56 && pointLat < 64 && pointLon >= 3 && pointLon < 12) {
+              zoneNumber = 32;
+            } else if (pointLat >= 72 && pointLat < 84 && pointLon >= 0 && pointLon < 42) {
+              zoneNumber = pointLon < 9 ? 31 : pointLon < 21 ? 33 : pointLon < 33 ? 35 : 37;
+            }
+
+            assertEquals(
+                pointLat + ", " + (lon + dLon),
+                zoneNumber,
+                coordinateSystemTranslator.getZoneNumber(pointLat, lon + dLon));
+          }
+        }
+      }
+    }
   }
 
   @Test
@@ -245,6 +299,162 @@ public class CoordinateSystemTranslatorTest extends BaseClassForUsng4jTest {
     UsngCoordinateImpl.parseMgrsString(mgrsString);
   }
 
+  @Test
+  public void testParseUsngLenientFormatting() throws ParseException {
+    // lower case letters, a non-space band separator and trailing whitespace
+    UsngCoordinate parts = UsngCoordinateImpl.parseUsngString("12s-vc 1290 4329\t");
+    assertEquals(12, parts.getZoneNumber());
+    assertEquals('S', parts.getLatitudeBandLetter());
+    assertEquals('V', parts.getColumnLetter().charValue());
+    assertEquals('C', parts.getRowLetter().charValue());
+    assertEquals(CoordinatePrecision.TEN_METERS, parts.getPrecision());
+    assertEquals(1290, parts.getEasting(), 0);
+    assertEquals(4329, parts.getNorthing(), 0);
+
+    parts = UsngCoordinateImpl.parseUsngString("12S VC ");
+    assertEquals(CoordinatePrecision.ONE_HUNDRED_KILOMETERS, parts.getPrecision());
+    assertEquals('C', parts.getRowLetter().charValue());
+    assertNull(parts.getEasting());
+
+    parts = UsngCoordinateImpl.parseUsngString("5Q KB 0 1");
+    assertEquals(CoordinatePrecision.TEN_KILOMETERS, parts.getPrecision());
+    assertEquals(0, parts.getEasting(), 0);
+    assertEquals(1, parts.getNorthing(), 0);
+  }
+
+  @Test(expected = ParseException.class)
+  public void testUsngStringTooManyDigits() throws ParseException {
+    UsngCoordinateImpl.parseUsngString("12S VC 129000 432920");
+  }
+
+  @Test(expected = ParseException.class)
+  public void testUsngStringSeparatorInNumericalLocation() throws ParseException {
+    UsngCoordinateImpl.parseUsngString("12S VC 12900|43292");
+  }
+
+  @Test(expected = ParseException.class)
+  public void testMgrsStringWhitespace() throws ParseException {
+    UsngCoordinateImpl.parseMgrsString("12SVC 1290043292");
+  }
+
+  @Test(expected = ParseException.class)
+  public void testUsngStringZeroZone() throws ParseException {
+    UsngCoordinateImpl.parseUsngString("05Q KB");
+  }
+
+  @Test
+  public void testTryParseUsngAndMgrs() {
+    ParseResult<UsngCoordinate> result =
+        coordinateSystemTranslator.tryParseUsngString("12S VC 12900 43292");
+    assertThat(result.isSuccess(), is(true));
+    assertEquals(12900, result.getValue().getEasting(), 0);
+    assertNull(result.getErrorCode());
+
+    result = coordinateSystemTranslator.tryParseMgrsString("12SVC1290043292");
+    assertThat(result.isSuccess(), is(true));
+    assertEquals(43292, result.getValue().getNorthing(), 0);
+  }
+
+  @Test
+  public void testTryParseInvalidUsngAndMgrs() {
+    assertUsngParseFailure("", ParseErrorCode.UNEXPECTED_END_OF_INPUT, 0);
+    assertUsngParseFailure("61Q", ParseErrorCode.INVALID_ZONE_NUMBER, 0);
+    assertUsngParseFailure("123Q", ParseErrorCode.INVALID_ZONE_NUMBER, 0);
+    assertUsngParseFailure("12", ParseErrorCode.UNEXPECTED_END_OF_INPUT, 2);
+    assertUsngParseFailure("12I VC", ParseErrorCode.INVALID_LATITUDE_BAND, 2);
+    assertUsngParseFailure("12S VW", ParseErrorCode.INVALID_GRID_SQUARE, 4);
+    assertUsngParseFailure("12S VC 1290x 43292", ParseErrorCode.UNEXPECTED_CHARACTER, 11);
+    assertUsngParseFailure("12R WA 6958 026", ParseErrorCode.INVALID_NUMERICAL_LOCATION, 6);
+
+    ParseResult<UsngCoordinate> result = coordinateSystemTranslator.tryParseMgrsString("12SVC 12");
+    assertThat(result.getErrorCode(), is(ParseErrorCode.UNEXPECTED_CHARACTER));
+    assertThat(result.getErrorOffset(), is(5));
+  }
+
+  @Test
+  public void testParseExceptionErrorOffset() {
+    try {
+      UsngCoordinateImpl.parseUsngString("12I VC");
+      fail("expected a ParseException");
+    } catch (ParseException e) {
+      assertEquals(2, e.getErrorOffset());
+    }
+  }
+
+  @Test
+  public void testTryParseAsciiBytesMatchesStrings() {
+    String[] strings = {
+      "12S VC 12900 43292",
+      "12svc1290043292",
+      "5Q KB",
+      "12S VC 1290x 43292",
+      "18S UJ 23487 06483",
+      "61Q",
+      "",
+      " 18S 123456mE 1234567mN ",
+      "Z 2000000 2000000",
+      "18S 123456 1234567 s",
+      "abc",
+      // longer than the per thread scratch space for direct buffers
+      "18S                                        123456                     1234567   "
+    };
+    ByteBuffer direct = ByteBuffer.allocateDirect(128);
+
+    for (String string : strings) {
+      byte[] frame = ("<<" + string + ">>").getBytes(StandardCharsets.US_ASCII);
+      ByteBuffer heap = ByteBuffer.wrap(frame, 2, string.length()).slice();
+      direct.clear();
+      direct.put(frame).position(2).limit(2 + string.length());
+
+      assertParseResultsEqual(
+          coordinateSystemTranslator.tryParseUsngString(string),
+          coordinateSystemTranslator.tryParseUsngString(frame, 2, string.length()));
+      assertParseResultsEqual(
+          coordinateSystemTranslator.tryParseMgrsString(string),
+          coordinateSystemTranslator.tryParseMgrsString(heap));
+      assertParseResultsEqual(
+          coordinateSystemTranslator.tryParseMgrsString(string),
+          coordinateSystemTranslator.tryParseMgrsString(direct));
+      assertParseResultsEqual(
+          coordinateSystemTranslator.tryParseUtmUpsString(string),
+          coordinateSystemTranslator.tryParseUtmUpsString(frame, 2, string.length()));
+      assertParseResultsEqual(
+          coordinateSystemTranslator.tryParseUtmUpsString(string),
+          coordinateSystemTranslator.tryParseUtmUpsString(direct));
+      assertEquals(2, direct.position());
+      assertEquals(2 + string.length(), direct.limit());
+    }
+
+    ParseResult<UsngCoordinate> result =
+        coordinateSystemTranslator.tryParseMgrsString(
+            new byte[] {'1', '2', 'S', 'V', 'C', (byte) 0xB2}, 0, 6);
+    assertThat(result.getErrorCode(), is(ParseErrorCode.UNEXPECTED_CHARACTER));
+    assertThat(result.getErrorOffset(), is(5));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testTryParseAsciiBytesOutOfBounds() {
+    coordinateSystemTranslator.tryParseMgrsString(new byte[4], 2, 3);
+  }
+
+  private static <T> void assertParseResultsEqual(
+      final ParseResult<T> expected, final ParseResult<T> actual) {
+    assertThat(actual.isSuccess(), is(expected.isSuccess()));
+    assertEquals(expected.getValue(), actual.getValue());
+    assertThat(actual.getErrorCode(), is(expected.getErrorCode()));
+    assertThat(actual.getErrorOffset(), is(expected.getErrorOffset()));
+  }
+
+  private void assertUsngParseFailure(
+      final String usngString, final ParseErrorCode errorCode, final int errorOffset) {
+    final ParseResult<UsngCoordinate> result =
+        coordinateSystemTranslator.tryParseUsngString(usngString);
+    assertThat(result.isSuccess(), is(false));
+    assertNull(result.getValue());
+    assertThat(result.getErrorCode(), is(errorCode));
+    assertThat(result.getErrorOffset(), is(errorOffset));
+  }
+
   @Test
   public void testUsngConversionToMgrs() throws ParseException {
     String usngString = "12R WA 6958 0265";
@@ -522,6 +732,65 @@ public class CoordinateSystemTranslatorTest extends BaseClassForUsng4jTest {
     assertEquals(-59.0, Math.floor(latLon.getLon()), 0);
   }
 
+  @Test
+  public void testBatchConvertUtmToLatLonMatchesSinglePoint() {
+    int[] zoneNumbers = {5, 12, 21, 21, 32, 33, 54};
+    NSIndicator[] nsIndicators = {
+      NSIndicator.NORTH, null, NSIndicator.NORTH, NSIndicator.SOUTH, NSIndicator.NORTH, null, null
+    };
+    double[] eastings = {131517, 43292, 341475, 341475, 305555, 413395.5, 363955};
+    double[] northings = {42785, 12900, -3831984, 6168016, 6709840, 8686456.25, 3929527};
+    double[] lats = new double[zoneNumbers.length];
+    double[] lons = new double[zoneNumbers.length];
+
+    coordinateSystemTranslator.toLatLon(zoneNumbers, nsIndicators, eastings, northings, lats, lons);
+
+    for (int i = 0; i < zoneNumbers.length; i++) {
+      UtmCoordinate utmCoordinate =
+          nsIndicators[i] == null
+              ? new UtmCoordinateImpl(zoneNumbers[i], eastings[i], northings[i])
+              : new UtmCoordinateImpl(zoneNumbers[i], eastings[i], northings[i], nsIndicators[i]);
+      DecimalDegreesCoordinate expected = coordinateSystemTranslator.toLatLon(utmCoordinate);
+      assertEquals(expected.getLat(), lats[i], 0);
+      assertEquals(expected.getLon(), lons[i], 0);
+    }
+
+    assertEquals(lats[2], lats[3], 0);
+    assertEquals(-35.0, Math.floor(lats[3]), 0);
+    assertEquals(-59.0, Math.floor(lons[3]), 0);
+  }
+
+  @Test
+  public void testBatchConvertUtmToLatLonWithRange() {
+    int[] zoneNumbers = {5, 12, 21};
+    NSIndicator[] nsIndicators = {NSIndicator.NORTH, NSIndicator.NORTH, NSIndicator.SOUTH};
+    double[] eastings = {131517, 43292, 341475};
+    double[] northings = {42785, 12900, 6168016};
+    double[] lats = new double[zoneNumbers.length];
+    double[] lons = new double[zoneNumbers.length];
+
+    coordinateSystemTranslator.toLatLon(
+        zoneNumbers, nsIndicators, eastings, northings, lats, lons, 2, 1);
+
+    assertEquals(0, lats[0], 0);
+    assertEquals(0, lons[1], 0);
+    assertEquals(-35.0, Math.floor(lats[2]), 0);
+    assertEquals(-59.0, Math.floor(lons[2]), 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBatchConvertUtmToLatLonInvalidRange() {
+    coordinateSystemTranslator.toLatLon(
+        new int[2],
+        new NSIndicator[2],
+        new double[2],
+        new double[2],
+        new double[2],
+        new double[2],
+        1,
+        2);
+  }
+
   private void assertLatOrLonIsClose(
       final boolean latitude, final double actual, final double expected) throws AssertionError {
     final String latOrLonCapitalized = latitude ? "Latitude" : "Longitude";
@@ -1219,6 +1488,136 @@ public class CoordinateSystemTranslatorTest extends BaseClassForUsng4jTest {
     }
   }
 
+  @Test
+  public void testBatchConvertLatLonToUtmMatchesSinglePoint() {
+    // equator, southern hemisphere, west coast of Norway, Svalbard and the polar limits
+    double[] lats = {0, 34.545, -34.66, -23.355, 60.5, 78.25, 83.9, -80, 84};
+    double[] lons = {0, -112.465, -58.73, 43.67, 5.5, 15.0, 38.5, 179.9, -0.5};
+    int[] zoneNumbers = new int[lats.length];
+    double[] eastings = new double[lats.length];
+    double[] northings = new double[lats.length];
+
+    coordinateSystemTranslator.toUtm(lats, lons, zoneNumbers, eastings, northings);
+
+    for (int i = 0; i < lats.length; i++) {
+      UtmCoordinate expected =
+          coordinateSystemTranslator.toUtm(new DecimalDegreesCoordinateImpl(lats[i], lons[i]));
+      assertEquals(expected.getZoneNumber(), zoneNumbers[i]);
+      assertEquals(expected.getEasting(), eastings[i], 0);
+      assertEquals(expected.getNorthing(), northings[i], 0);
+    }
+  }
+
+  @Test
+  public void testLargeBatchConversionsMatchSinglePoint() {
+    // the vector path is opt-in; the default batch path must match the single-point path exactly
+    assertThat(CoordinateSystemTranslatorImpl.isVectorBatchProjectionEnabled(), is(false));
+    // enough points to cover several vector lengths of the batch loops, including 0-360 longitudes
+    final int count = 1003;
+    final double[] lats = new double[count];
+    final double[] lons = new double[count];
+    final int[] zoneNumbers = new int[count];
+    final NSIndicator[] nsIndicators = new NSIndicator[count];
+    final double[] eastings = new double[count];
+    final double[] northings = new double[count];
+    final double[] roundTripLats = new double[count];
+    final double[] roundTripLons = new double[count];
+
+    for (int i = 0; i < count; i++) {
+      lats[i] = i % 50 == 0 ? 0 : -80 + (i * 163.9) / count;
+      lons[i] = -180 + ((i * 7919) % count) * 539.9 / count;
+    }
+
+    coordinateSystemTranslator.toUtm(lats, lons, zoneNumbers, eastings, northings);
+
+    for (int i = 0; i < count; i++) {
+      final UtmCoordinate expected =
+          coordinateSystemTranslator.toUtm(new DecimalDegreesCoordinateImpl(lats[i], lons[i]));
+      assertEquals(expected.getZoneNumber(), zoneNumbers[i]);
+      assertEquals(expected.getEasting(), eastings[i], 0);
+      assertEquals(expected.getNorthing(), northings[i], 0);
+
+      if (lats[i] < 0) {
+        nsIndicators[i] = NSIndicator.SOUTH;
+        northings[i] += NORTHING_OFFSET;
+      }
+    }
+
+    coordinateSystemTranslator.toLatLon(
+        zoneNumbers, nsIndicators, eastings, northings, roundTripLats, roundTripLons);
+
+    for (int i = 0; i < count; i++) {
+      final DecimalDegreesCoordinate expected =
+          coordinateSystemTranslator.toLatLon(
+              nsIndicators[i] == null
+                  ? new UtmCoordinateImpl(zoneNumbers[i], eastings[i], northings[i])
+                  : new UtmCoordinateImpl(
+                      zoneNumbers[i], eastings[i], northings[i], nsIndicators[i]));
+      assertEquals(expected.getLat(), roundTripLats[i], 0);
+      assertEquals(expected.getLon(), roundTripLons[i], 0);
+    }
+  }
+
+  @Test
+  public void testBatchConvertLatLonToUtmWritesPointsBeforeInvalidOne() {
+    final double[] lats = new double[20];
+    final double[] lons = new double[20];
+    final double[] eastings = new double[20];
+    Arrays.fill(lats, 34.5);
+    Arrays.fill(lons, -112.5);
+    lats[17] = 85;
+
+    try {
+      coordinateSystemTranslator.toUtm(lats, lons, new int[20], eastings, new double[20]);
+      fail("latitude 85 is not valid UTM");
+    } catch (IllegalArgumentException e) {
+      assertThat(eastings[16] > 0, is(true));
+      assertThat(eastings[17], is(0.0));
+    }
+  }
+
+  @Test
+  public void testBatchConvertLatLonToUtmWithRange() {
+    double[] lats = {34, 34.5, 35.5};
+    double[] lons = {-111, -112.5, 139.5};
+    int[] zoneNumbers = new int[lats.length];
+    double[] eastings = new double[lats.length];
+    double[] northings = new double[lats.length];
+
+    coordinateSystemTranslator.toUtm(lats, lons, zoneNumbers, eastings, northings, 1, 2);
+
+    assertEquals(0, zoneNumbers[0]);
+    assertEquals(0, eastings[0], 0);
+    assertEquals(12, zoneNumbers[1]);
+    assertEquals(362289, (int) eastings[1]);
+    assertEquals(54, zoneNumbers[2]);
+    assertEquals(3929527, (int) northings[2]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBatchConvertLatLonToUtmInvalidLatitude() {
+    coordinateSystemTranslator.toUtm(
+        new double[] {34, 85}, new double[] {-111, -111}, new int[2], new double[2], new double[2]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBatchConvertLatLonToUtmOutputTooShort() {
+    coordinateSystemTranslator.toUtm(
+        new double[] {34, 35}, new double[] {-111, -111}, new int[2], new double[2], new double[1]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBatchConvertLatLonToUtmRangeEndOverflows() {
+    coordinateSystemTranslator.toUtm(
+        new double[2],
+        new double[2],
+        new int[2],
+        new double[2],
+        new double[2],
+        1,
+        Integer.MAX_VALUE);
+  }
+
   @Test
   public void testUsngGithubData() throws ParseException {
 
@@ -1362,6 +1761,491 @@ public class CoordinateSystemTranslatorTest extends BaseClassForUsng4jTest {
     }
   }
 
+  @Test
+  public void testLLPointToUsngKeepsRequestedPrecision() {
+    // easting and northing both start with a zero at one kilometer precision
+    UsngCoordinate actual =
+        coordinateSystemTranslator.toUsng(
+            new DecimalDegreesCoordinateImpl(38.8895, -77.2658), CoordinatePrecision.ONE_KILOMETER);
+    assertEquals("18S UJ 03 06", actual.toString());
+    assertEquals(CoordinatePrecision.ONE_KILOMETER, actual.getPrecision());
+  }
+
+  @Test
+  public void testToUsngAtEveryPrecisionMatchesToUsng() {
+    // includes the southern hemisphere, Norway, Svalbard and points a meter from a 100 km line
+    double[][] points = {
+      {38.8895, -77.0352},
+      {-33.8688, 151.2093},
+      {60.39, 5.32},
+      {78.22, 15.65},
+      {0.0, -180.0},
+      {-79.99, 179.99},
+      {83.99, 0.01},
+      {44.99999, -75.00001}
+    };
+
+    for (double[] point : points) {
+      DecimalDegreesCoordinate decimalDegreesCoordinate =
+          new DecimalDegreesCoordinateImpl(point[0], point[1]);
+      UsngCoordinate[] usngCoordinates =
+          coordinateSystemTranslator.toUsngAtEveryPrecision(decimalDegreesCoordinate);
+
+      assertThat(usngCoordinates.length, is(CoordinatePrecision.values().length));
+
+      for (CoordinatePrecision precision : CoordinatePrecision.values()) {
+        assertEquals(
+            coordinateSystemTranslator.toUsng(decimalDegreesCoordinate, precision),
+            usngCoordinates[precision.ordinal()]);
+      }
+    }
+  }
+
+  @Test
+  public void testToUsngParentAndChildren() throws ParseException {
+    UsngCoordinate usngCoordinate = coordinateSystemTranslator.parseUsngString("18S UJ 234 064");
+    UsngCoordinate parent =
+        coordinateSystemTranslator.toUsngParent(usngCoordinate, CoordinatePrecision.ONE_KILOMETER);
+
+    assertEquals("18S UJ 23 06", parent.toString());
+    assertEquals(
+        "18S",
+        coordinateSystemTranslator
+            .toUsngParent(usngCoordinate, CoordinatePrecision.SIX_BY_EIGHT_DEGREES)
+            .toString());
+
+    List<UsngCoordinate> children = new ArrayList<>();
+    coordinateSystemTranslator
+        .toUsngChildren(parent, CoordinatePrecision.ONE_HUNDRED_METERS)
+        .forEach(children::add);
+
+    assertThat(children.size(), is(100));
+    assertThat(children.contains(usngCoordinate), is(true));
+  }
+
+  @Test
+  public void testToUsngChildrenOfGridZone() throws ParseException {
+    UsngCoordinate gridZone = coordinateSystemTranslator.parseUsngString("32V");
+    Set<UsngCoordinate> children = new HashSet<>();
+    coordinateSystemTranslator
+        .toUsngChildren(gridZone, CoordinatePrecision.ONE_HUNDRED_KILOMETERS)
+        .forEach(children::add);
+
+    // Norway's widened zone 32V
+    for (double lat = 56.05; lat < 64; lat += 0.5) {
+      for (double lon = 3.05; lon < 12; lon += 0.5) {
+        UsngCoordinate usngCoordinate =
+            coordinateSystemTranslator.toUsng(
+                new DecimalDegreesCoordinateImpl(lat, lon),
+                CoordinatePrecision.ONE_HUNDRED_KILOMETERS);
+        assertThat(usngCoordinate.toString(), children.contains(usngCoordinate), is(true));
+      }
+    }
+
+    for (UsngCoordinate child : children) {
+      assertEquals(
+          gridZone,
+          coordinateSystemTranslator.toUsngParent(child, CoordinatePrecision.SIX_BY_EIGHT_DEGREES));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testToUsngChildrenOfMissingGridZone() throws ParseException {
+    coordinateSystemTranslator.toUsngChildren(
+        coordinateSystemTranslator.parseUsngString("32X"), CoordinatePrecision.TEN_KILOMETERS);
+  }
+
+  @Test
+  public void testGridSquareBoundingBoxesAreClippedToGridZone() throws ParseException {
+    // grid zone, north, south, east, west
+    Object[][] gridZones = {
+      {"18S", 40, 32, -72, -78},
+      {"32V", 64, 56, 12, 3},
+      {"31X", 84, 72, 9, 0},
+      {"60K", -16, -24, 180, 174},
+      {"1C", -72, -80, -174, -180}
+    };
+
+    for (Object[] gridZone : gridZones) {
+      double north = (int) gridZone[1];
+      double south = (int) gridZone[2];
+      double east = (int) gridZone[3];
+      double west = (int) gridZone[4];
+      List<UsngCoordinate> squares = new ArrayList<>();
+      coordinateSystemTranslator
+          .toUsngChildren(
+              coordinateSystemTranslator.parseUsngString((String) gridZone[0]),
+              CoordinatePrecision.ONE_HUNDRED_KILOMETERS)
+          .forEach(squares::add);
+
+      double minWest = Double.POSITIVE_INFINITY;
+      double maxEast = Double.NEGATIVE_INFINITY;
+      for (UsngCoordinate square : squares) {
+        BoundingBox box = coordinateSystemTranslator.toBoundingBox(square);
+        String message = square + " " + box;
+        assertThat(message, south <= box.getSouth() && box.getSouth() <= box.getNorth(), is(true));
+        assertThat(message, box.getNorth() <= north, is(true));
+        assertThat(message, west <= box.getWest() && box.getWest() <= box.getEast(), is(true));
+        assertThat(message, box.getEast() <= east, is(true));
+        assertThat(message, box == coordinateSystemTranslator.toBoundingBox(square), is(true));
+        minWest = Math.min(minWest, box.getWest());
+        maxEast = Math.max(maxEast, box.getEast());
+      }
+
+      // the squares on the zone edges are cut at the edges
+      assertEquals(west, minWest, 0);
+      assertEquals(east, maxEast, 0);
+    }
+  }
+
+  @Test
+  public void testGridSquareBoundingBoxesAreSharedByEqualTranslators() throws ParseException {
+    UsngCoordinate square = coordinateSystemTranslator.parseUsngString("18S UJ");
+    CoordinateSystemTranslatorImpl equalTranslator =
+        new CoordinateSystemTranslatorImpl(
+            new Ellipsoid(6378137.0, 0.006694380023), TransverseMercatorSeries.SNYDER);
+    CoordinateSystemTranslatorImpl krueger =
+        new CoordinateSystemTranslatorImpl(Ellipsoid.GRS80, TransverseMercatorSeries.KRUEGER);
+
+    BoundingBox box = coordinateSystemTranslator.toBoundingBox(square);
+    assertThat(equalTranslator.toBoundingBox(square) == box, is(true));
+    assertThat(CoordinateSystemTranslators.nad83().toBoundingBox(square) == box, is(true));
+    assertThat(krueger.toBoundingBox(square) == box, is(false));
+    assertEquals(box.getNorth(), krueger.toBoundingBox(square).getNorth(), 1e-6);
+  }
+
+  @Test
+  public void testGridSquareLettersRoundTripInEveryZone() {
+    String columnLetters = "ABCDEFGHJKLMNPQRSTUVWXYZ";
+    String rowLetters = "ABCDEFGHJKLMNPQRSTUV";
+
+    for (int zone = 1; zone <= 60; zone++) {
+      for (char band : new char[] {'C', 'M', 'N', 'X'}) {
+        for (int column = 0; column < 8; column++) {
+          for (int row = 0; row < rowLetters.length(); row++) {
+            char columnLetter = columnLetters.charAt((zone - 1) % 3 * 8 + column);
+            char rowLetter = rowLetters.charAt(row);
+            UtmCoordinate utmCoordinate =
+                coordinateSystemTranslator.toUtm(
+                    new UsngCoordinateImpl(
+                        zone,
+                        band,
+                        columnLetter,
+                        rowLetter,
+                        5,
+                        5,
+                        CoordinatePrecision.TEN_KILOMETERS));
+
+            assertThat(utmCoordinate.getEasting(), is((column + 1) * 100_000.0 + 50_000));
+            assertEquals(
+                String.format("%d%c%c%c55", zone, band, columnLetter, rowLetter),
+                PackedUsngCoordinate.toMgrsString(
+                    coordinateSystemTranslator.packUsng(
+                        zone,
+                        band,
+                        utmCoordinate.getEasting(),
+                        utmCoordinate.getNorthing(),
+                        CoordinatePrecision.TEN_KILOMETERS)));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testWriteUsngAndMgrsStringsMatchToUsng() throws IOException {
+    char[] chars = new char[20];
+    ByteBuffer bytes = ByteBuffer.allocate(20);
+    StringBuilder stringBuilder = new StringBuilder();
+
+    for (double lat = -79.75; lat < 84; lat += 3.7) {
+      for (double lon = -179.9; lon < 180; lon += 7.3) {
+        for (CoordinatePrecision precision : CoordinatePrecision.values()) {
+          UsngCoordinate expected =
+              coordinateSystemTranslator.toUsng(
+                  new DecimalDegreesCoordinateImpl(lat, lon), precision);
+
+          int length = coordinateSystemTranslator.writeMgrsString(lat, lon, precision, chars, 1);
+          assertEquals(expected.toMgrsString(), new String(chars, 1, length));
+
+          bytes.clear();
+          length = coordinateSystemTranslator.writeUsngString(lat, lon, precision, bytes);
+          assertEquals(length, bytes.position());
+          assertEquals(
+              expected.toString(), new String(bytes.array(), 0, length, StandardCharsets.US_ASCII));
+
+          stringBuilder.setLength(0);
+          coordinateSystemTranslator.appendMgrsString(lat, lon, precision, stringBuilder);
+          coordinateSystemTranslator.appendUsngString(lat, lon, precision, stringBuilder);
+          assertEquals(expected.toMgrsString() + expected, stringBuilder.toString());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testWriteUsngStringBufferTooSmall() {
+    ByteBuffer bytes = ByteBuffer.allocate(10);
+
+    try {
+      coordinateSystemTranslator.writeUsngString(
+          38.8895, -77.0352, CoordinatePrecision.ONE_METER, bytes);
+      fail("expected a BufferOverflowException");
+    } catch (BufferOverflowException e) {
+      assertEquals(0, bytes.position());
+    }
+  }
+
+  @Test
+  public void testWriteMgrsStringArrayTooSmall() {
+    char[] chars = new char[16];
+
+    assertEquals(
+        15,
+        coordinateSystemTranslator.writeMgrsString(
+            38.8895, -77.0352, CoordinatePrecision.ONE_METER, chars, 1));
+
+    Arrays.fill(chars, '-');
+
+    try {
+      coordinateSystemTranslator.writeMgrsString(
+          38.8895, -77.0352, CoordinatePrecision.ONE_METER, chars, 2);
+      fail("expected an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage(), containsString("need an array of length 17"));
+      assertEquals("----------------", new String(chars));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWriteMgrsStringInvalidLatitude() {
+    coordinateSystemTranslator.writeMgrsString(
+        85, 0, CoordinatePrecision.ONE_METER, new char[20], 0);
+  }
+
+  @Test
+  public void testCoordinatePrecisionFormatMatchesNumberFormat() {
+    final int[] values = {
+      0,
+      1,
+      9,
+      10,
+      42,
+      99,
+      100,
+      4278,
+      12345,
+      99999,
+      100000,
+      1234567,
+      -1,
+      -42,
+      -12345,
+      Integer.MAX_VALUE,
+      Integer.MIN_VALUE
+    };
+
+    for (CoordinatePrecision precision : CoordinatePrecision.values()) {
+      final NumberFormat numberFormat = NumberFormat.getIntegerInstance(Locale.US);
+      numberFormat.setGroupingUsed(false);
+      numberFormat.setMinimumIntegerDigits(Math.max(precision.getIntValue(), 0));
+
+      for (int value : values) {
+        final String expected = precision.getIntValue() > 0 ? numberFormat.format(value) : "";
+        final char[] destination = new char[16];
+        final int length = precision.formatTo(destination, 2, value);
+
+        assertEquals(expected, precision.format(value));
+        assertEquals(expected, precision.formatTo(new StringBuilder("x"), value).substring(1));
+        assertEquals(expected, new String(destination, 2, length));
+      }
+    }
+  }
+
+  @Test
+  public void testCoordinatePrecisionFormatIsThreadSafe() throws Exception {
+    final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    try {
+      final List<Future<Boolean>> results = new ArrayList<>();
+
+      for (int task = 0; task < 4; task++) {
+        final int seed = task;
+        results.add(
+            executorService.submit(
+                () -> {
+                  for (int value = seed; value < 200000; value += 4) {
+                    final String formatted = CoordinatePrecision.ONE_METER.format(value);
+                    if (formatted.length() < 5 || Integer.parseInt(formatted) != value) {
+                      return false;
+                    }
+                  }
+                  return true;
+                }));
+      }
+
+      for (Future<Boolean> result : results) {
+        assertThat(result.get(), is(true));
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testEllipsoidTranslatorsMatchDatumTranslators() {
+    final CoordinateSystemTranslatorImpl nad27 = new CoordinateSystemTranslatorImpl(false);
+    final CoordinateSystemTranslatorImpl clarke1866 =
+        new CoordinateSystemTranslatorImpl(Ellipsoid.CLARKE_1866);
+    final CoordinateSystemTranslatorImpl grs80 =
+        new CoordinateSystemTranslatorImpl(Ellipsoid.GRS80);
+
+    assertThat(coordinateSystemTranslator.getEllipsoid(), is(Ellipsoid.GRS80));
+    assertThat(nad27.getEllipsoid(), is(Ellipsoid.CLARKE_1866));
+
+    for (double lat = -79.5; lat < 84; lat += 7.25) {
+      for (double lon = -179.5; lon < 180; lon += 11.5) {
+        final DecimalDegreesCoordinate latLon = new DecimalDegreesCoordinateImpl(lat, lon);
+        assertThat(
+            grs80.toUtm(latLon).toString(),
+            is(coordinateSystemTranslator.toUtm(latLon).toString()));
+        assertThat(clarke1866.toUtm(latLon).toString(), is(nad27.toUtm(latLon).toString()));
+
+        final UtmCoordinate utm = nad27.toUtm(latLon);
+        assertThat(clarke1866.toLatLon(utm).getLat(), is(nad27.toLatLon(utm).getLat()));
+        assertThat(clarke1866.toLatLon(utm).getLon(), is(nad27.toLatLon(utm).getLon()));
+      }
+    }
+  }
+
+  @Test
+  public void testSharedTranslators() {
+    assertThat(
+        CoordinateSystemTranslators.nad83() == CoordinateSystemTranslators.nad83(), is(true));
+    assertThat(
+        ((CoordinateSystemTranslatorImpl) CoordinateSystemTranslators.nad83()).getEllipsoid(),
+        is(Ellipsoid.GRS80));
+    assertThat(
+        ((CoordinateSystemTranslatorImpl) CoordinateSystemTranslators.nad27()).getEllipsoid(),
+        is(Ellipsoid.CLARKE_1866));
+    assertThat(
+        ((CoordinateSystemTranslatorImpl) CoordinateSystemTranslators.wgs84()).getEllipsoid(),
+        is(Ellipsoid.WGS84));
+
+    final DecimalDegreesCoordinate latLon = new DecimalDegreesCoordinateImpl(38.8895, -77.0352);
+    assertThat(
+        CoordinateSystemTranslators.nad83().toUsng(latLon).toString(),
+        is(coordinateSystemTranslator.toUsng(latLon).toString()));
+  }
+
+  @Test
+  public void testUserDefinedEllipsoid() {
+    final Ellipsoid clarke1866 = Ellipsoid.fromInverseFlattening(6378206.4, 294.9786982);
+    assertEquals(Ellipsoid.CLARKE_1866.getEccSquared(), clarke1866.getEccSquared(), 0.0000000001);
+    assertEquals(0.00669437999014, Ellipsoid.WGS84.getEccSquared(), 0.00000000000001);
+
+    // GRS80 and WGS84 differ by a fraction of a millimeter in UTM
+    final CoordinateSystemTranslatorImpl wgs84 =
+        new CoordinateSystemTranslatorImpl(Ellipsoid.WGS84);
+    final DecimalDegreesCoordinate latLon = new DecimalDegreesCoordinateImpl(38.8895, -77.0352);
+    final UtmCoordinate expected = coordinateSystemTranslator.toUtm(latLon);
+    final UtmCoordinate actual = wgs84.toUtm(latLon);
+    assertEquals(expected.getEasting(), actual.getEasting(), 0.001);
+    assertEquals(expected.getNorthing(), actual.getNorthing(), 0.001);
+  }
+
+  @Test
+  public void testInvalidEllipsoid() {
+    for (double[] values :
+        new double[][] {
+          {0, 0.006}, {-1, 0.006}, {Double.NaN, 0.006}, {6378137.0, 1}, {6378137.0, -0.1}
+        }) {
+      try {
+        new Ellipsoid(values[0], values[1]);
+        fail(Arrays.toString(values) + " is not a valid ellipsoid");
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullEllipsoid() {
+    new CoordinateSystemTranslatorImpl((Ellipsoid) null);
+  }
+
+  @Test
+  public void testKruegerSeriesMatchesSnyderSeriesNearCentralMeridian() {
+    final CoordinateSystemTranslatorImpl krueger =
+        new CoordinateSystemTranslatorImpl(Ellipsoid.GRS80, TransverseMercatorSeries.KRUEGER);
+    assertThat(krueger.getTransverseMercatorSeries(), is(TransverseMercatorSeries.KRUEGER));
+    assertThat(
+        coordinateSystemTranslator.getTransverseMercatorSeries(),
+        is(TransverseMercatorSeries.SNYDER));
+
+    for (double lat = -79.5; lat < 84; lat += 3.25) {
+      for (double lonOffset = -1; lonOffset <= 1; lonOffset += 0.25) {
+        final DecimalDegreesCoordinate latLon =
+            new DecimalDegreesCoordinateImpl(lat, -75 + lonOffset);
+        final UtmCoordinate expected = coordinateSystemTranslator.toUtm(latLon);
+        final UtmCoordinate actual = krueger.toUtm(latLon);
+        assertThat(actual.getZoneNumber(), is(expected.getZoneNumber()));
+        assertEquals(expected.getEasting(), actual.getEasting(), 0.001);
+        assertEquals(expected.getNorthing(), actual.getNorthing(), 0.001);
+      }
+    }
+  }
+
+  @Test
+  public void testKruegerSeriesMeridianDistance() {
+    final CoordinateSystemTranslatorImpl krueger =
+        new CoordinateSystemTranslatorImpl(Ellipsoid.GRS80, TransverseMercatorSeries.KRUEGER);
+    // the GRS80 meridian distance from the equator to 45 degrees is 4984944.3779m
+    final UtmCoordinate utm = krueger.toUtm(new DecimalDegreesCoordinateImpl(45, -75));
+    assertEquals(500000, utm.getEasting(), 0.000001);
+    assertEquals(0.9996 * 4984944.3779, utm.getNorthing(), 0.0001);
+  }
+
+  @Test
+  public void testKruegerSeriesRoundTrip() {
+    final CoordinateSystemTranslatorImpl krueger =
+        new CoordinateSystemTranslatorImpl(Ellipsoid.WGS84, TransverseMercatorSeries.KRUEGER);
+    final int count = 24 * 41;
+    final double[] lats = new double[count];
+    final double[] lons = new double[count];
+    final int[] zoneNumbers = new int[count];
+    final double[] eastings = new double[count];
+    final double[] northings = new double[count];
+    final NSIndicator[] nsIndicators = new NSIndicator[count];
+    final double[] roundTripLats = new double[count];
+    final double[] roundTripLons = new double[count];
+
+    int i = 0;
+    for (double lat = -79.75; lat < 84; lat += 6.9) {
+      for (double lon = -180; lon <= 180; lon += 9) {
+        lats[i] = lat;
+        lons[i] = lon;
+        // the batch conversion leaves southern northings negative
+        nsIndicators[i] = NSIndicator.NORTH;
+        i++;
+      }
+    }
+
+    krueger.toUtm(lats, lons, zoneNumbers, eastings, northings, 0, i);
+    krueger.toLatLon(
+        zoneNumbers, nsIndicators, eastings, northings, roundTripLats, roundTripLons, 0, i);
+
+    for (int j = 0; j < i; j++) {
+      assertEquals(lats[j], roundTripLats[j], 0.000000000001);
+      assertEquals(lons[j] == 180 ? -180 : lons[j], roundTripLons[j], 0.000000000001);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullTransverseMercatorSeries() {
+    new CoordinateSystemTranslatorImpl(Ellipsoid.GRS80, null);
+  }
+
   @Test
   public void testUsngToLatLon() throws ParseException {
     // should return 38.8895 -77.0352
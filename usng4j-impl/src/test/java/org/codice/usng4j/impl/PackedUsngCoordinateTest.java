@@ -0,0 +1,204 @@
+package org.codice.usng4j.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.text.ParseException;
+import java.util.HashSet;
+import java.util.Set;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.CoordinateSystemTranslator;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.UsngCoordinate;
+import org.junit.Test;
+
+public class PackedUsngCoordinateTest {
+  private final CoordinateSystemTranslator translator = new CoordinateSystemTranslatorImpl();
+
+  @Test
+  public void testPackRoundTripsEveryPrecision() throws ParseException {
+    final Set<Long> packedValues = new HashSet<>();
+    final char[] chars = new char[20];
+    int count = 0;
+
+    for (double lat = -79.9; lat < 84; lat += 2.9) {
+      for (double lon = -179.8; lon < 180; lon += 6.7) {
+        for (CoordinatePrecision precision : CoordinatePrecision.values()) {
+          final UsngCoordinate usng =
+              translator.toUsng(new DecimalDegreesCoordinateImpl(lat, lon), precision);
+          final long packed = PackedUsngCoordinate.pack(usng);
+
+          assertTrue(packed > 0);
+          assertEquals(usng, PackedUsngCoordinate.unpack(packed));
+          assertEquals(packed, PackedUsngCoordinate.fromLatLon(translator, lat, lon, precision));
+          assertEquals(usng.toMgrsString(), PackedUsngCoordinate.toMgrsString(packed));
+          assertEquals(
+              usng.toMgrsString(),
+              new String(chars, 2, PackedUsngCoordinate.writeMgrsString(packed, chars, 2)));
+          assertEquals(usng.toString().length(), PackedUsngCoordinate.length(packed, true));
+          assertEquals(usng.toMgrsString().length(), PackedUsngCoordinate.length(packed, false));
+          assertEquals(packed, PackedUsngCoordinate.parseMgrsString(usng.toMgrsString()));
+          assertThat(PackedUsngCoordinate.getZoneNumber(packed), is(usng.getZoneNumber()));
+          assertThat(
+              PackedUsngCoordinate.getLatitudeBandLetter(packed), is(usng.getLatitudeBandLetter()));
+          assertThat(PackedUsngCoordinate.getPrecision(packed), is(precision));
+          packedValues.add(packed);
+          count++;
+        }
+      }
+    }
+
+    // coarse precisions share cells, but every ONE_METER coordinate is distinct
+    assertTrue(packedValues.size() > count / CoordinatePrecision.values().length);
+  }
+
+  @Test
+  public void testFromLatLonAtEveryPrecision() {
+    final long[] packed = new long[CoordinatePrecision.values().length + 1];
+
+    for (double lat = -79.93; lat < 84; lat += 1.37) {
+      for (double lon = -179.9; lon < 180; lon += 2.93) {
+        PackedUsngCoordinate.fromLatLonAtEveryPrecision(translator, lat, lon, packed, 1);
+
+        for (CoordinatePrecision precision : CoordinatePrecision.values()) {
+          assertEquals(
+              PackedUsngCoordinate.fromLatLon(translator, lat, lon, precision),
+              packed[1 + precision.ordinal()]);
+        }
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testFromLatLonAtEveryPrecisionOutOfBounds() {
+    PackedUsngCoordinate.fromLatLonAtEveryPrecision(
+        translator, 38.8895, -77.0352, new long[CoordinatePrecision.values().length], 1);
+  }
+
+  @Test
+  public void testToParentMatchesConversion() {
+    final CoordinatePrecision[] precisions = CoordinatePrecision.values();
+
+    for (double lat = -79.93; lat < 84; lat += 3.17) {
+      for (double lon = -179.9; lon < 180; lon += 5.03) {
+        for (CoordinatePrecision precision : precisions) {
+          final long packed = PackedUsngCoordinate.fromLatLon(translator, lat, lon, precision);
+
+          for (int i = 0; i <= precision.ordinal(); i++) {
+            assertEquals(
+                PackedUsngCoordinate.fromLatLon(translator, lat, lon, precisions[i]),
+                PackedUsngCoordinate.toParent(packed, precisions[i]));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testToChildren() throws ParseException {
+    final long parent = PackedUsngCoordinate.parseMgrsString("18SUJ2306");
+    final long[] children =
+        PackedUsngCoordinate.toChildren(parent, CoordinatePrecision.ONE_HUNDRED_METERS).toArray();
+
+    assertThat(children.length, is(100));
+    assertThat(PackedUsngCoordinate.toMgrsString(children[0]), is("18SUJ230060"));
+    assertThat(PackedUsngCoordinate.toMgrsString(children[1]), is("18SUJ231060"));
+    assertThat(PackedUsngCoordinate.toMgrsString(children[99]), is("18SUJ239069"));
+
+    for (long child : children) {
+      assertEquals(parent, PackedUsngCoordinate.toParent(child, CoordinatePrecision.ONE_KILOMETER));
+    }
+
+    assertThat(
+        PackedUsngCoordinate.toMgrsString(
+            PackedUsngCoordinate.toChildren(
+                    PackedUsngCoordinate.parseMgrsString("18SUJ"), CoordinatePrecision.ONE_METER)
+                .skip(100_001)
+                .findFirst()
+                .getAsLong()),
+        is("18SUJ0000100001"));
+    assertThat(
+        PackedUsngCoordinate.toChildren(parent, CoordinatePrecision.ONE_KILOMETER).toArray(),
+        is(new long[] {parent}));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testToParentAtFinerPrecision() throws ParseException {
+    PackedUsngCoordinate.toParent(
+        PackedUsngCoordinate.parseMgrsString("18SUJ2306"), CoordinatePrecision.TEN_METERS);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testToChildrenAtCoarserPrecision() throws ParseException {
+    PackedUsngCoordinate.toChildren(
+        PackedUsngCoordinate.parseMgrsString("18SUJ2306"), CoordinatePrecision.TEN_KILOMETERS);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testToChildrenOfGridZone() throws ParseException {
+    PackedUsngCoordinate.toChildren(
+        PackedUsngCoordinate.parseMgrsString("18S"), CoordinatePrecision.ONE_HUNDRED_KILOMETERS);
+  }
+
+  @Test
+  public void testAccessors() throws ParseException {
+    final long packed = PackedUsngCoordinate.parseMgrsString("18SUJ2348706483");
+
+    assertThat(PackedUsngCoordinate.getZoneNumber(packed), is(18));
+    assertThat(PackedUsngCoordinate.getLatitudeBandLetter(packed), is('S'));
+    assertThat(PackedUsngCoordinate.getColumnLetter(packed), is('U'));
+    assertThat(PackedUsngCoordinate.getRowLetter(packed), is('J'));
+    assertThat(PackedUsngCoordinate.getEasting(packed), is(23487));
+    assertThat(PackedUsngCoordinate.getNorthing(packed), is(6483));
+    assertThat(PackedUsngCoordinate.getPrecision(packed), is(CoordinatePrecision.ONE_METER));
+
+    final long zone = PackedUsngCoordinate.parseMgrsString("60X");
+    assertThat(PackedUsngCoordinate.getColumnLetter(zone), is((char) 0));
+    assertThat(PackedUsngCoordinate.getEasting(zone), is(0));
+    assertThat(
+        PackedUsngCoordinate.getPrecision(zone), is(CoordinatePrecision.SIX_BY_EIGHT_DEGREES));
+  }
+
+  @Test
+  public void testToLatLonMatchesUnpackedCoordinate() throws ParseException {
+    final UsngCoordinate usng = translator.parseUsngString("18S UJ 23487 06483");
+    final DecimalDegreesCoordinate expected = translator.toLatLon(usng);
+    final DecimalDegreesCoordinate actual =
+        PackedUsngCoordinate.toLatLon(translator, PackedUsngCoordinate.pack(usng));
+
+    assertEquals(expected.getLat(), actual.getLat(), 0);
+    assertEquals(expected.getLon(), actual.getLon(), 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPackInvalidZone() {
+    PackedUsngCoordinate.pack(61, 'S', 'U', 'J', 1, 2, CoordinatePrecision.TEN_KILOMETERS);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPackInvalidGridSquare() {
+    PackedUsngCoordinate.pack(18, 'S', 'U', 'W', 1, 2, CoordinatePrecision.TEN_KILOMETERS);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPackDigitsBeyondPrecision() {
+    PackedUsngCoordinate.pack(18, 'S', 'U', 'J', 10, 2, CoordinatePrecision.TEN_KILOMETERS);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnpackZero() {
+    PackedUsngCoordinate.unpack(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnpackNegative() {
+    PackedUsngCoordinate.unpack(-1L);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnpackStrayDigitsAtHundredKilometers() throws ParseException {
+    PackedUsngCoordinate.unpack(PackedUsngCoordinate.parseMgrsString("18SUJ") | 1);
+  }
+}
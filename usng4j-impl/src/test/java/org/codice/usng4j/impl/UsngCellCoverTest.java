@@ -0,0 +1,170 @@
+package org.codice.usng4j.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.UsngCoordinate;
+import org.junit.Test;
+
+public class UsngCellCoverTest {
+  private final CoordinateSystemTranslatorImpl translator = new CoordinateSystemTranslatorImpl();
+
+  private final Random random = new Random(17);
+
+  @Test
+  public void testCoverContainsTheCellOfEveryPointInTheBox() {
+    // south, west, maximum height and width: equator, southern hemisphere, band and zone edges,
+    // Norway, Svalbard and the antimeridian
+    final double[][] regions = {
+      {-1, -75, 2, 3},
+      {-40, 140, 6, 8},
+      {31.5, -72.5, 1, 1},
+      {55, 0, 10, 14},
+      {70, -3, 14, 48},
+      {-10, 178, 2, 4},
+      {83, 10, 1, 2}
+    };
+
+    for (double[] region : regions) {
+      for (CoordinatePrecision precision : CoordinatePrecision.values()) {
+        // keep the covers small at fine precisions
+        final double scale = Math.pow(10, -Math.max(0, precision.getIntValue() - 1));
+
+        for (int i = 0; i < 4; i++) {
+          final double south = region[0] + random.nextDouble() * region[2] * (1 - scale);
+          final double north = Math.min(84, south + random.nextDouble() * region[2] * scale);
+          final double west = region[1] + random.nextDouble() * region[3] * (1 - scale);
+          final double east = west + random.nextDouble() * region[3] * scale;
+          assertCoversEveryPoint(
+              new BoundingBoxImpl(
+                  north, south, east > 180 ? east - 360 : east, west > 180 ? west - 360 : west),
+              precision);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testGridZoneEdgesBelongToTheNeighbouringZones() {
+    assertThat(
+        mgrsCells(new BoundingBoxImpl(40, 32, -72, -78), CoordinatePrecision.SIX_BY_EIGHT_DEGREES),
+        is(Arrays.asList("18S", "19S", "18T", "19T")));
+    assertThat(
+        mgrsCells(
+            new BoundingBoxImpl(39.99, 32, -72.01, -78), CoordinatePrecision.SIX_BY_EIGHT_DEGREES),
+        is(Arrays.asList("18S")));
+    // Norway and Svalbard
+    assertThat(
+        mgrsCells(new BoundingBoxImpl(63, 57, 11, 1), CoordinatePrecision.SIX_BY_EIGHT_DEGREES),
+        is(Arrays.asList("31V", "32V")));
+    assertThat(
+        mgrsCells(new BoundingBoxImpl(84, 75, 20, 1), CoordinatePrecision.SIX_BY_EIGHT_DEGREES),
+        is(Arrays.asList("31X", "33X")));
+    // the antimeridian
+    assertThat(
+        mgrsCells(new BoundingBoxImpl(1, -1, -179, 179), CoordinatePrecision.SIX_BY_EIGHT_DEGREES),
+        is(Arrays.asList("1M", "60M", "1N", "60N")));
+  }
+
+  @Test
+  public void testPointCoverIsTheCellOfThePoint() {
+    final double lat = 38.8895;
+    final double lon = -77.0352;
+
+    for (CoordinatePrecision precision : CoordinatePrecision.values()) {
+      final List<UsngCoordinate> cells =
+          translator
+              .toUsngCells(new BoundingBoxImpl(lat, lat, lon, lon), precision)
+              .collect(Collectors.toList());
+
+      assertThat(
+          cells,
+          is(
+              Arrays.asList(
+                  translator.toUsng(new DecimalDegreesCoordinateImpl(lat, lon), precision))));
+    }
+  }
+
+  @Test
+  public void testCoverIsLazy() {
+    final long[] cells =
+        translator
+            .toPackedUsngCells(
+                new BoundingBoxImpl(84, -80, 180, -180), CoordinatePrecision.ONE_METER)
+            .limit(5)
+            .toArray();
+
+    assertThat(cells.length, is(5));
+    assertThat(PackedUsngCoordinate.toMgrsString(cells[0]).startsWith("1C"), is(true));
+  }
+
+  @Test
+  public void testBoxOutsideOfUsngIsEmpty() {
+    assertThat(
+        translator
+            .toPackedUsngCells(new BoundingBoxImpl(90, 85, 10, 0), CoordinatePrecision.ONE_METER)
+            .count(),
+        is(0L));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBox() {
+    translator.toUsngCells(new BoundingBoxImpl(10, 20, 10, 0), CoordinatePrecision.ONE_METER);
+  }
+
+  private List<String> mgrsCells(
+      final BoundingBoxImpl boundingBox, final CoordinatePrecision precision) {
+    return translator
+        .toUsngCells(boundingBox, precision)
+        .map(UsngCoordinate::toMgrsString)
+        .collect(Collectors.toList());
+  }
+
+  private void assertCoversEveryPoint(
+      final BoundingBoxImpl boundingBox, final CoordinatePrecision precision) {
+    final long[] cells = translator.toPackedUsngCells(boundingBox, precision).toArray();
+    final Set<Long> cover = new HashSet<>();
+    Arrays.stream(cells).forEach(cover::add);
+    assertEquals("duplicate cells for " + boundingBox, cells.length, cover.size());
+
+    final double width =
+        boundingBox.getEast() >= boundingBox.getWest()
+            ? boundingBox.getEast() - boundingBox.getWest()
+            : boundingBox.getEast() + 360 - boundingBox.getWest();
+
+    for (int i = 0; i < 400; i++) {
+      // include the corners and edges
+      final double u =
+          i < 4 ? i % 2 : i < 40 ? Math.round(random.nextDouble()) : random.nextDouble();
+      final double v = i < 4 ? i / 2 : random.nextDouble();
+      final double lat =
+          boundingBox.getSouth() + (boundingBox.getNorth() - boundingBox.getSouth()) * v;
+      double lon = boundingBox.getWest() + width * u;
+      lon = lon > 180 ? lon - 360 : lon;
+
+      if (lat > 84) {
+        continue;
+      }
+
+      final long cell = translator.packUsng(lat, lon, precision);
+      assertTrue(
+          PackedUsngCoordinate.toMgrsString(cell)
+              + " at "
+              + lat
+              + ", "
+              + lon
+              + " is missing from the cover of "
+              + boundingBox,
+          cover.contains(cell));
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package org.codice.usng4j.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.UsngCoordinate;
+import org.junit.Test;
+
+public class UsngCellKeyTest {
+  private final CoordinateSystemTranslatorImpl translator = new CoordinateSystemTranslatorImpl();
+
+  @Test
+  public void testKeysRoundTrip() throws ParseException {
+    for (String mgrs : new String[] {"18S", "18SUJ", "18SUJ24", "18SUJ2348", "18SUJ2348706483"}) {
+      final long key = UsngCellKey.parseMgrsString(mgrs);
+      final UsngCoordinate cell = translator.parseMgrsString(mgrs);
+
+      assertTrue(key > 0);
+      assertEquals(cell, UsngCellKey.toUsngCoordinate(key));
+      assertEquals(key, UsngCellKey.of(cell));
+      assertEquals(PackedUsngCoordinate.pack(cell), UsngCellKey.toPacked(key));
+      assertThat(UsngCellKey.getPrecision(key), is(cell.getPrecision()));
+    }
+  }
+
+  @Test
+  public void testOneRangeCoversEveryCellInside() throws ParseException {
+    final long cell = UsngCellKey.parseMgrsString("18SUJ2348");
+
+    assertTrue(UsngCellKey.contains(cell, cell));
+    assertTrue(UsngCellKey.contains(cell, UsngCellKey.parseMgrsString("18SUJ234486")));
+    assertTrue(UsngCellKey.contains(cell, UsngCellKey.parseMgrsString("18SUJ2345648678")));
+    assertTrue(UsngCellKey.contains(cell, UsngCellKey.parseMgrsString("18SUJ2399948999")));
+    assertThat(UsngCellKey.contains(cell, UsngCellKey.parseMgrsString("18SUJ24")), is(false));
+    assertThat(UsngCellKey.contains(cell, UsngCellKey.parseMgrsString("18SUJ2349")), is(false));
+    assertThat(UsngCellKey.contains(cell, UsngCellKey.parseMgrsString("18SUJ2448")), is(false));
+    assertThat(
+        UsngCellKey.contains(cell, UsngCellKey.parseMgrsString("18SUJ2445648678")), is(false));
+    assertThat(UsngCellKey.contains(cell, UsngCellKey.parseMgrsString("18TUJ2348")), is(false));
+    assertThat(UsngCellKey.rangeStart(cell), is(cell));
+  }
+
+  @Test
+  public void testSortOrderGroupsCellsUnderTheirParents() {
+    final Random random = new Random(7);
+    final CoordinatePrecision[] precisions = CoordinatePrecision.values();
+    final List<Long> keys = new ArrayList<>();
+
+    // clustered points, so that cells share parents at every precision
+    for (int i = 0; i < 3000; i++) {
+      final double lat = 38.8 + random.nextDouble() * (i % 3 == 0 ? 10 : 0.05);
+      final double lon = -77.1 + random.nextDouble() * (i % 3 == 0 ? 10 : 0.05);
+      final CoordinatePrecision precision = precisions[random.nextInt(precisions.length)];
+      keys.add(UsngCellKey.fromPacked(translator.packUsng(lat, lon, precision)));
+    }
+
+    Collections.sort(keys);
+
+    for (int i = 0; i < keys.size(); i++) {
+      final long cell = keys.get(i);
+      final String prefix = cellPrefix(cell);
+
+      for (int j = 0; j < keys.size(); j++) {
+        final long other = keys.get(j);
+        final boolean inside =
+            UsngCellKey.getPrecision(other).compareTo(UsngCellKey.getPrecision(cell)) >= 0
+                && cellPrefix(other, UsngCellKey.getPrecision(cell)).equals(prefix);
+
+        assertThat(UsngCellKey.contains(cell, other), is(inside));
+        // everything inside a cell follows it in sort order
+        assertTrue(!inside || j >= i || other == cell);
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testToPackedStrayDigits() throws ParseException {
+    UsngCellKey.toPacked(UsngCellKey.parseMgrsString("18SUJ24") + (1L << 10));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFromPackedInvalid() {
+    // zone 0
+    UsngCellKey.fromPacked(0L);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPrecision() throws ParseException {
+    UsngCellKey.rangeEnd(UsngCellKey.parseMgrsString("18SUJ24") | 7);
+  }
+
+  /** @return the MGRS string of a cell truncated to 'precision', e.g. "18SUJ24". */
+  private static String cellPrefix(final long key, final CoordinatePrecision precision) {
+    final UsngCoordinate cell = UsngCellKey.toUsngCoordinate(key);
+    final StringBuilder prefix =
+        new StringBuilder().append(cell.getZoneNumber()).append(cell.getLatitudeBandLetter());
+
+    if (precision == CoordinatePrecision.SIX_BY_EIGHT_DEGREES) {
+      return prefix.toString();
+    }
+
+    prefix.append(cell.getColumnLetter()).append(cell.getRowLetter());
+    final int drop = cell.getPrecision().getIntValue() - precision.getIntValue();
+
+    if (precision.getIntValue() > 0) {
+      precision.formatTo(prefix, (int) (cell.getEasting() / Math.pow(10, drop)));
+      precision.formatTo(prefix, (int) (cell.getNorthing() / Math.pow(10, drop)));
+    }
+
+    return prefix.toString();
+  }
+
+  private static String cellPrefix(final long key) {
+    return cellPrefix(key, UsngCellKey.getPrecision(key));
+  }
+}
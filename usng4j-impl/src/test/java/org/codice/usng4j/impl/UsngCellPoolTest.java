@@ -0,0 +1,104 @@
+package org.codice.usng4j.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.UsngCoordinate;
+import org.junit.Test;
+
+public class UsngCellPoolTest {
+  private final CoordinateSystemTranslatorImpl translator = new CoordinateSystemTranslatorImpl();
+
+  @Test
+  public void testConversionsAndParsingShareCoarseCells() throws ParseException {
+    final DecimalDegreesCoordinateImpl washington =
+        new DecimalDegreesCoordinateImpl(38.8895, -77.0352);
+    final DecimalDegreesCoordinateImpl arlington =
+        new DecimalDegreesCoordinateImpl(38.8816, -77.0910);
+
+    final UsngCoordinate gridZone =
+        translator.toUsng(washington, CoordinatePrecision.SIX_BY_EIGHT_DEGREES);
+    assertSame(gridZone, translator.toUsng(arlington, CoordinatePrecision.SIX_BY_EIGHT_DEGREES));
+    assertSame(gridZone, translator.parseUsngString("18S"));
+    assertSame(gridZone, translator.parseMgrsString("18S"));
+
+    final UsngCoordinate gridSquare =
+        translator.toUsng(washington, CoordinatePrecision.ONE_HUNDRED_KILOMETERS);
+    assertSame(
+        gridSquare, translator.toUsng(arlington, CoordinatePrecision.ONE_HUNDRED_KILOMETERS));
+    assertSame(gridSquare, translator.parseUsngString("18S UJ"));
+    assertSame(gridSquare, translator.parseMgrsString("18SUJ"));
+    assertSame(
+        gridSquare,
+        translator.toUsngParent(
+            translator.toUsng(washington), CoordinatePrecision.ONE_HUNDRED_KILOMETERS));
+
+    // finer cells are not shared
+    assertNotSame(
+        translator.toUsng(washington, CoordinatePrecision.TEN_KILOMETERS),
+        translator.toUsng(washington, CoordinatePrecision.TEN_KILOMETERS));
+  }
+
+  @Test
+  public void testCellsThatAreNotWellFormedAreNotPooled() throws ParseException {
+    // A is a column letter of zones 1, 4, 7, .., not of zone 18
+    final UsngCoordinate gridSquare = translator.parseUsngString("18S AJ");
+
+    assertThat(gridSquare.toString(), is("18S AJ"));
+    assertEquals(gridSquare, translator.parseUsngString("18S AJ"));
+    assertNotSame(gridSquare, translator.parseUsngString("18S AJ"));
+    assertThat(UsngCellPool.gridZone(61, 'S').toString(), is("61S"));
+  }
+
+  @Test
+  public void testConcurrentRequestsShareOneInstance() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      final List<Future<UsngCoordinateImpl[]>> futures = new ArrayList<>();
+
+      for (int i = 0; i < 4; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  final UsngCoordinateImpl[] cells = new UsngCoordinateImpl[8 * 20];
+
+                  for (int row = 0; row < 20; row++) {
+                    for (int column = 0; column < 8; column++) {
+                      cells[row * 8 + column] =
+                          UsngCellPool.gridSquare(
+                              60,
+                              'K',
+                              "STUVWXYZ".charAt(column),
+                              "ABCDEFGHJKLMNPQRSTUV".charAt(row));
+                    }
+                  }
+
+                  return cells;
+                }));
+      }
+
+      final UsngCoordinateImpl[] first = futures.get(0).get();
+
+      for (Future<UsngCoordinateImpl[]> future : futures) {
+        final UsngCoordinateImpl[] cells = future.get();
+
+        for (int i = 0; i < cells.length; i++) {
+          assertSame(first[i], cells[i]);
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
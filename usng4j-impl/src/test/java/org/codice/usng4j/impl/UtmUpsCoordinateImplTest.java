@@ -1,6 +1,7 @@
 package org.codice.usng4j.impl;
 
 import static org.codice.usng4j.NSIndicator.NORTH;
+import static org.codice.usng4j.NSIndicator.SOUTH;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
@@ -8,6 +9,8 @@ import static org.junit.Assert.assertThat;
 import java.text.ParseException;
 import java.util.concurrent.ThreadLocalRandom;
 import org.codice.usng4j.CoordinatePrecision;
+import org.codice.usng4j.ParseErrorCode;
+import org.codice.usng4j.ParseResult;
 import org.codice.usng4j.UtmCoordinate;
 import org.codice.usng4j.UtmUpsCoordinate;
 import org.junit.Test;
@@ -166,6 +169,52 @@ public class UtmUpsCoordinateImplTest extends BaseClassForUsng4jTest {
     UtmUpsCoordinateImpl.parseUtmUpsString("5Z 000001 2199600");
   }
 
+  @Test
+  public void testParsingLowerCaseNSIndicator() throws ParseException {
+    assertThat(
+        UtmUpsCoordinateImpl.parseUtmUpsString("5 000001 2199600 N").getNSIndicator(), is(NORTH));
+    assertThat(
+        UtmUpsCoordinateImpl.parseUtmUpsString("5 000001 2199600 n").getNSIndicator(), is(SOUTH));
+    assertThat(
+        UtmUpsCoordinateImpl.parseUtmUpsString("5 000001 2199600 s").getNSIndicator(), is(SOUTH));
+  }
+
+  @Test
+  public void testTryParsingUtmUps() {
+    final ParseResult<UtmUpsCoordinate> result =
+        UtmUpsCoordinateImpl.tryParseUtmUpsString(" 5Q 000001mE 2199600mN ");
+    assertThat(result.isSuccess(), is(true));
+    assertThat(result.getValue().getZoneNumber(), is(5));
+    assertThat(result.getValue().getNorthing(), is(2199600.0));
+    assertThat(result.getErrorCode(), is(nullValue()));
+    assertThat(result.getErrorOffset(), is(-1));
+
+    // the zone and band are optional when the string starts with whitespace
+    final ParseResult<UtmUpsCoordinate> upsResult =
+        UtmUpsCoordinateImpl.tryParseUtmUpsString(" 2000000 2000000 N");
+    assertThat(upsResult.isSuccess(), is(true));
+    assertThat(upsResult.getValue().isUPS(), is(true));
+  }
+
+  @Test
+  public void testTryParsingInvalidUtmUps() {
+    assertParseFailure("5Q", ParseErrorCode.UNEXPECTED_END_OF_INPUT, 2);
+    assertParseFailure("5q 000001 2199600", ParseErrorCode.INVALID_LATITUDE_BAND, 1);
+    assertParseFailure("5Q 000001 2199600 X", ParseErrorCode.UNEXPECTED_CHARACTER, 18);
+    assertParseFailure("5Q 000001me 99999999999", ParseErrorCode.NUMBER_OUT_OF_RANGE, 12);
+    assertParseFailure("5Z 000001 2199600", ParseErrorCode.INVALID_COORDINATE, 0);
+  }
+
+  private static void assertParseFailure(
+      final String utmUpsString, final ParseErrorCode errorCode, final int errorOffset) {
+    final ParseResult<UtmUpsCoordinate> result =
+        UtmUpsCoordinateImpl.tryParseUtmUpsString(utmUpsString);
+    assertThat(result.isSuccess(), is(false));
+    assertThat(result.getValue(), is(nullValue()));
+    assertThat(result.getErrorCode(), is(errorCode));
+    assertThat(result.getErrorOffset(), is(errorOffset));
+  }
+
   // UPS parsing tests
 
   @Test
@@ -229,4 +278,62 @@ public class UtmUpsCoordinateImplTest extends BaseClassForUsng4jTest {
         UtmUpsCoordinateImpl.parseUtmUpsString(expectedTestDataSingleCoordinate.upsString);
     assertThat(testCoordinateOne.hashCode(), is(testCoordinateTwo.hashCode()));
   }
+
+  @Test
+  public void testPrecisionMatchesPrintedValues() {
+    final double[] values = {
+      0,
+      -0.0,
+      1,
+      -1,
+      9.9,
+      -9.9,
+      10,
+      10.5,
+      -10,
+      99,
+      99.9,
+      -99.9,
+      99.99,
+      100,
+      -100,
+      0.25,
+      0.001,
+      0.0009,
+      1e7,
+      500_000,
+      4_649_776.22,
+      Double.NaN,
+      Double.POSITIVE_INFINITY,
+      Double.NEGATIVE_INFINITY,
+      Math.nextDown(100.0),
+      Math.nextUp(-100.0)
+    };
+
+    for (double easting : values) {
+      for (double northing : values) {
+        final CoordinatePrecision expected =
+            CoordinatePrecision.forEastNorth(Double.toString(easting), Double.toString(northing));
+        assertThat(
+            easting + " " + northing,
+            new UtmCoordinateImpl(1, easting, northing).getPrecision(),
+            is(expected));
+        assertThat(
+            easting + " " + northing,
+            CoordinatePrecision.forEastNorth(easting, northing),
+            is(expected));
+      }
+    }
+
+    for (int i = 0; i < 10_000; i++) {
+      final double easting = ThreadLocalRandom.current().nextDouble(-200, 200);
+      final double northing = ThreadLocalRandom.current().nextInt(-200, 200) / 10.0;
+      assertThat(
+          easting + " " + northing,
+          CoordinatePrecision.forEastNorth(easting, northing),
+          is(
+              CoordinatePrecision.forEastNorth(
+                  Double.toString(easting), Double.toString(northing))));
+    }
+  }
 }
@@ -0,0 +1,94 @@
+package org.codice.usng4j.impl;
+
+import static org.codice.usng4j.impl.CoordinateSystemTranslatorImpl.NORTHING_OFFSET;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import org.codice.usng4j.DecimalDegreesCoordinate;
+import org.codice.usng4j.NSIndicator;
+import org.codice.usng4j.UtmCoordinate;
+import org.junit.Test;
+
+/**
+ * Runs only in the vector execution of the java17 profile, which adds the jdk.incubator.vector
+ * module and sets org.codice.usng4j.vector to true.
+ */
+public class VectorBatchProjectionTest {
+  // the SIMD batch path differs from the scalar code in the last few bits
+  private static final double EASTING_NORTHING_DEVIATION = 0.000001;
+  private static final double LAT_LON_DEVIATION = 0.00000000001;
+
+  private final CoordinateSystemTranslatorImpl coordinateSystemTranslator =
+      new CoordinateSystemTranslatorImpl(true);
+
+  @Test
+  public void testVectorBatchConversionsMatchSinglePointWithinTolerance() {
+    assertThat(CoordinateSystemTranslatorImpl.isVectorBatchProjectionEnabled(), is(true));
+
+    // enough points for several SIMD vectors and a masked tail, including 0-360 longitudes
+    final int count = 1003;
+    final double[] lats = new double[count];
+    final double[] lons = new double[count];
+    final int[] zoneNumbers = new int[count];
+    final NSIndicator[] nsIndicators = new NSIndicator[count];
+    final double[] eastings = new double[count];
+    final double[] northings = new double[count];
+    final double[] roundTripLats = new double[count];
+    final double[] roundTripLons = new double[count];
+
+    for (int i = 0; i < count; i++) {
+      lats[i] = i % 50 == 0 ? 0 : -80 + (i * 163.9) / count;
+      lons[i] = -180 + ((i * 7919) % count) * 539.9 / count;
+    }
+
+    coordinateSystemTranslator.toUtm(lats, lons, zoneNumbers, eastings, northings);
+
+    for (int i = 0; i < count; i++) {
+      final UtmCoordinate expected =
+          coordinateSystemTranslator.toUtm(new DecimalDegreesCoordinateImpl(lats[i], lons[i]));
+      assertEquals(expected.getZoneNumber(), zoneNumbers[i]);
+      assertEquals(expected.getEasting(), eastings[i], EASTING_NORTHING_DEVIATION);
+      assertEquals(expected.getNorthing(), northings[i], EASTING_NORTHING_DEVIATION);
+
+      if (lats[i] < 0) {
+        nsIndicators[i] = NSIndicator.SOUTH;
+        northings[i] += NORTHING_OFFSET;
+      }
+    }
+
+    coordinateSystemTranslator.toLatLon(
+        zoneNumbers, nsIndicators, eastings, northings, roundTripLats, roundTripLons);
+
+    for (int i = 0; i < count; i++) {
+      final DecimalDegreesCoordinate expected =
+          coordinateSystemTranslator.toLatLon(
+              nsIndicators[i] == null
+                  ? new UtmCoordinateImpl(zoneNumbers[i], eastings[i], northings[i])
+                  : new UtmCoordinateImpl(
+                      zoneNumbers[i], eastings[i], northings[i], nsIndicators[i]));
+      assertEquals(expected.getLat(), roundTripLats[i], LAT_LON_DEVIATION);
+      assertEquals(expected.getLon(), roundTripLons[i], LAT_LON_DEVIATION);
+    }
+  }
+
+  @Test
+  public void testVectorBatchConvertLatLonToUtmWritesPointsBeforeInvalidOne() {
+    final double[] lats = new double[20];
+    final double[] lons = new double[20];
+    final double[] eastings = new double[20];
+    Arrays.fill(lats, 34.5);
+    Arrays.fill(lons, -112.5);
+    lats[17] = 85;
+
+    try {
+      coordinateSystemTranslator.toUtm(lats, lons, new int[20], eastings, new double[20]);
+      fail("latitude 85 is not valid UTM");
+    } catch (IllegalArgumentException e) {
+      assertThat(eastings[16] > 0, is(true));
+      assertThat(eastings[17], is(0.0));
+    }
+  }
+}